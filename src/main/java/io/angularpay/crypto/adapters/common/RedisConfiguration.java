@@ -1,22 +1,59 @@
 package io.angularpay.crypto.adapters.common;
 
 import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfiguration {
 
+    private static final String POOL_JMX_NAME_PREFIX = "redis-pool";
+
     @Bean
-    public JedisConnectionFactory connectionFactory(AngularPayConfiguration angularPayConfiguration) {
+    public RedisConnectionFactory connectionFactory(AngularPayConfiguration angularPayConfiguration) {
+        AngularPayConfiguration.Redis redis = angularPayConfiguration.getRedis();
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
-        configuration.setHostName(angularPayConfiguration.getRedis().getHost());
-        configuration.setPort(angularPayConfiguration.getRedis().getPort());
-        return new JedisConnectionFactory(configuration);
+        configuration.setHostName(redis.getHost());
+        configuration.setPort(redis.getPort());
+
+        Duration connectTimeout = Duration.ofMillis(redis.getConnectTimeoutMs() > 0 ? redis.getConnectTimeoutMs() : redis.getTimeout());
+        Duration readTimeout = Duration.ofMillis(redis.getReadTimeoutMs() > 0 ? redis.getReadTimeoutMs() : redis.getTimeout());
+
+        if (redis.getDriver() == AngularPayConfiguration.RedisDriver.LETTUCE) {
+            LettucePoolingClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                    .poolConfig(poolConfig(redis.getPool(), new GenericObjectPoolConfig<>()))
+                    .clientOptions(ClientOptions.builder()
+                            .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                            .build())
+                    .commandTimeout(readTimeout)
+                    .build();
+            return new LettuceConnectionFactory(configuration, clientConfiguration);
+        }
+
+        JedisClientConfiguration clientConfiguration = JedisClientConfiguration.builder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .usePooling()
+                .poolConfig(poolConfig(redis.getPool(), new JedisPoolConfig()))
+                .build();
+        return new JedisConnectionFactory(configuration, clientConfiguration);
     }
 
     @Bean
@@ -24,4 +61,27 @@ public class RedisConfiguration {
         return new StringRedisTemplate(connectionFactory);
     }
 
+    @Bean
+    CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics();
+    }
+
+    @Bean
+    MeterBinder redisPoolCapacityMetrics(AngularPayConfiguration angularPayConfiguration) {
+        return (MeterRegistry registry) -> Gauge.builder("crypto.redis.pool.max.total",
+                        angularPayConfiguration.getRedis().getPool(), AngularPayConfiguration.Redis.Pool::getMaxTotal)
+                .description("Configured maximum Redis connections, for computing pool saturation against commons.pool2.num.active")
+                .register(registry);
+    }
+
+    private static <T extends GenericObjectPoolConfig<?>> T poolConfig(AngularPayConfiguration.Redis.Pool pool, T poolConfig) {
+        poolConfig.setMaxTotal(pool.getMaxTotal());
+        poolConfig.setMaxIdle(pool.getMaxIdle());
+        poolConfig.setMinIdle(pool.getMinIdle());
+        poolConfig.setMaxWaitMillis(pool.getMaxWaitMs());
+        poolConfig.setJmxEnabled(true);
+        poolConfig.setJmxNamePrefix(POOL_JMX_NAME_PREFIX);
+        return poolConfig;
+    }
+
 }
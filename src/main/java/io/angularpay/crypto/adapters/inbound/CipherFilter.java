@@ -6,7 +6,12 @@ import io.angularpay.crypto.exceptions.ErrorObject;
 import io.angularpay.crypto.exceptions.ErrorResponse;
 import io.angularpay.crypto.models.VerifySignatureResponseModel;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
 
 import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
@@ -20,7 +25,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static io.angularpay.crypto.common.Constants.ERROR_SOURCE;
@@ -32,9 +40,17 @@ public class CipherFilter implements Filter {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final CipherServiceAdapter cipherServiceAdapter;
+    private final long asyncTimeoutMs;
+
+    private static final String VERIFICATION_ATTRIBUTE = CipherFilter.class.getName() + ".VERIFICATION";
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (servletRequest.getDispatcherType() == DispatcherType.ASYNC) {
+            resume(servletRequest, response, chain);
+            return;
+        }
+
         servletRequest = new WrappedHttpServletRequest((HttpServletRequest) servletRequest);
         HttpServletRequest request = (HttpServletRequest) servletRequest;
 
@@ -48,32 +64,139 @@ public class CipherFilter implements Filter {
                 .stream().collect(Collectors.toMap(h -> h, request::getHeader));
 
         log.info("verifying signature");
-        VerifySignatureResponseModel signatureResponse = cipherServiceAdapter.verifySignature(requestBody, headers);
+        Mono<VerifySignatureResponseModel> verification;
+        try {
+            verification = cipherServiceAdapter.verifySignatureAsync(requestBody, headers);
+        } catch (RuntimeException exception) {
+            log.error("signature verification failed", exception);
+            writeCipherError(response);
+            return;
+        }
+
+        if (!request.isAsyncSupported()) {
+            try {
+                onVerified(verification.block(), servletRequest, response, chain);
+            } catch (RuntimeException exception) {
+                log.error("signature verification failed", exception);
+                writeCipherError(response);
+            }
+            return;
+        }
+
+        Map<String, String> diagnosticContext = MDC.getCopyOfContextMap();
+        AsyncContext asyncContext = request.startAsync(servletRequest, response);
+        asyncContext.setTimeout(this.asyncTimeoutMs);
+        AtomicBoolean settled = new AtomicBoolean();
+        Disposable.Swap subscription = Disposables.swap();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                subscription.dispose();
+                fail(asyncContext, settled, new TimeoutException("signature verification timed out after " + asyncTimeoutMs + "ms"));
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                subscription.dispose();
+                fail(asyncContext, settled, event.getThrowable());
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        ServletRequest verifiedRequest = servletRequest;
+        subscription.update(verification.subscribe(
+                signatureResponse -> {
+                    if (!settled.compareAndSet(false, true)) return;
+                    if (signatureResponse.isValid()) {
+                        dispatch(asyncContext, new Verification(verifiedRequest, diagnosticContext));
+                    } else {
+                        log.info("signature is invalid");
+                        complete(asyncContext);
+                    }
+                },
+                error -> fail(asyncContext, settled, error)
+        ));
+    }
+
+    private void fail(AsyncContext asyncContext, AtomicBoolean settled, Throwable error) {
+        if (!settled.compareAndSet(false, true)) return;
+        log.error("signature verification failed", error);
+        complete(asyncContext);
+    }
+
+    private void complete(AsyncContext asyncContext) {
+        try {
+            writeCipherError(asyncContext.getResponse());
+        } catch (IOException exception) {
+            log.error("unable to write the signature verification error response", exception);
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private static void dispatch(AsyncContext asyncContext, Verification verification) {
+        try {
+            asyncContext.getRequest().setAttribute(VERIFICATION_ATTRIBUTE, verification);
+            asyncContext.dispatch();
+        } catch (IllegalStateException exception) {
+            log.warn("unable to resume request after signature verification, the request has already completed", exception);
+        }
+    }
+
+    private void resume(ServletRequest servletRequest, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        Verification verification = (Verification) servletRequest.getAttribute(VERIFICATION_ATTRIBUTE);
+        if (Objects.isNull(verification)) {
+            chain.doFilter(servletRequest, response);
+            return;
+        }
+        servletRequest.removeAttribute(VERIFICATION_ATTRIBUTE);
+        if (Objects.nonNull(verification.getDiagnosticContext())) {
+            MDC.setContextMap(verification.getDiagnosticContext());
+        }
+        try {
+            log.info("signature is valid");
+            chain.doFilter(verification.getRequest(), response);
+        } finally {
+            MDC.clear();
+        }
+    }
 
+    private void onVerified(VerifySignatureResponseModel signatureResponse, ServletRequest servletRequest, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         if (signatureResponse.isValid()) {
             log.info("signature is valid");
             chain.doFilter(servletRequest, response);
         } else {
             log.info("signature is invalid");
-            List<ErrorObject> errors = Collections.singletonList(ErrorObject.builder()
-                    .code(CIPHER_ERROR)
-                    .message(CIPHER_ERROR.getDefaultMessage())
-                    .source(ERROR_SOURCE)
-                    .build());
-
-            ErrorResponse errorResponse = ErrorResponse.builder()
-                    .errorReference(UUID.randomUUID().toString())
-                    .timestamp(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString())
-                    .errors(errors)
-                    .build();
-
-            String responseString = objectMapper.writeValueAsString(errorResponse);
-            ((HttpServletResponse) response).setStatus(400);
-            response.setContentType("application/json");
-            response.getOutputStream().write(responseString.getBytes());
+            writeCipherError(response);
         }
     }
 
+    private void writeCipherError(ServletResponse response) throws IOException {
+        List<ErrorObject> errors = Collections.singletonList(ErrorObject.builder()
+                .code(CIPHER_ERROR)
+                .message(CIPHER_ERROR.getDefaultMessage())
+                .source(ERROR_SOURCE)
+                .build());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorReference(UUID.randomUUID().toString())
+                .timestamp(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString())
+                .errors(errors)
+                .build();
+
+        String responseString = objectMapper.writeValueAsString(errorResponse);
+        ((HttpServletResponse) response).setStatus(400);
+        response.setContentType("application/json");
+        response.getOutputStream().write(responseString.getBytes());
+    }
+
     private static String getBody(ServletRequest request) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
         BufferedReader bufferedReader = null;
@@ -96,4 +219,10 @@ public class CipherFilter implements Filter {
         }
         return stringBuilder.toString();
     }
+
+    @Value
+    private static class Verification {
+        ServletRequest request;
+        Map<String, String> diagnosticContext;
+    }
 }
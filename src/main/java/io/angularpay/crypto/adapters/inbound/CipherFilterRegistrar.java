@@ -1,11 +1,14 @@
 package io.angularpay.crypto.adapters.inbound;
 
 import io.angularpay.crypto.adapters.outbound.CipherServiceAdapter;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.servlet.DispatcherType;
+
 @Configuration
 public class CipherFilterRegistrar {
 
@@ -14,9 +17,11 @@ public class CipherFilterRegistrar {
             havingValue = "true",
             matchIfMissing = true)
     @Bean
-    public FilterRegistrationBean<CipherFilter> registerPostCommentsRateLimiter(CipherServiceAdapter cipherServiceAdapter) {
+    public FilterRegistrationBean<CipherFilter> registerPostCommentsRateLimiter(CipherServiceAdapter cipherServiceAdapter, AngularPayConfiguration configuration) {
         FilterRegistrationBean<CipherFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new CipherFilter(cipherServiceAdapter));
+        registrationBean.setFilter(new CipherFilter(cipherServiceAdapter, configuration.getCipher().getAsyncTimeoutMs()));
+        registrationBean.setAsyncSupported(true);
+        registrationBean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
         registrationBean.addUrlPatterns(
                 "/crypto/requests",
                 "/crypto/requests/*/amount",
@@ -0,0 +1,72 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import io.angularpay.crypto.domain.commands.PlatformConfigurationsConverterCommand;
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.angularpay.crypto.configurations.PublishingExecutorConfiguration.LISTENER_EXECUTOR;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.TOPIC;
+
+@Slf4j
+@Service
+public class PlatformConfigurationDispatcher {
+
+    private final PlatformConfigurationsConverterCommand converterCommand;
+    private final Executor executor;
+    private final Map<PlatformConfigurationIdentifier, Slot> slots = new EnumMap<>(PlatformConfigurationIdentifier.class);
+
+    public PlatformConfigurationDispatcher(
+            PlatformConfigurationsConverterCommand converterCommand,
+            @Qualifier(LISTENER_EXECUTOR) Executor executor) {
+        this.converterCommand = converterCommand;
+        this.executor = executor;
+        Arrays.stream(PlatformConfigurationIdentifier.values()).forEach(x -> this.slots.put(x, new Slot()));
+    }
+
+    public void dispatch(String message, PlatformConfigurationIdentifier identifier) {
+        Slot slot = this.slots.get(identifier);
+        if (Objects.nonNull(slot.latest.getAndSet(message))) {
+            log.debug("coalesced superseded platform configurations {} message", identifier.name());
+        }
+        schedule(slot, identifier);
+    }
+
+    private void schedule(Slot slot, PlatformConfigurationIdentifier identifier) {
+        if (slot.scheduled.compareAndSet(false, true)) {
+            this.executor.execute(() -> drain(slot, identifier));
+        }
+    }
+
+    private void drain(Slot slot, PlatformConfigurationIdentifier identifier) {
+        try {
+            String message;
+            while (Objects.nonNull(message = slot.latest.getAndSet(null))) {
+                try {
+                    this.converterCommand.execute(message, identifier, TOPIC);
+                } catch (RuntimeException exception) {
+                    log.error("discarding unprocessable platform configurations {} message", identifier.name(), exception);
+                }
+            }
+        } finally {
+            slot.scheduled.set(false);
+        }
+        if (Objects.nonNull(slot.latest.get())) {
+            schedule(slot, identifier);
+        }
+    }
+
+    private static class Slot {
+        private final AtomicReference<String> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,128 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.commands.PlatformConfigurationsConverterCommand;
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+import io.angularpay.crypto.ports.outbound.OutboundMessagingPort;
+import io.angularpay.crypto.ports.outbound.PlatformConfigurationsStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static io.angularpay.crypto.configurations.PublishingExecutorConfiguration.LISTENER_EXECUTOR;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.DISK;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.HASH;
+
+@Slf4j
+@Service
+public class PlatformConfigurationsHydrator implements HealthIndicator {
+
+    private final PlatformConfigurationsConverterCommand converterCommand;
+    private final OutboundMessagingPort outboundMessagingPort;
+    private final Executor executor;
+    private final TaskScheduler taskScheduler;
+    private final AngularPayConfiguration configuration;
+    private final PlatformConfigurationsStorePort platformConfigurationsStorePort;
+    private final Set<PlatformConfigurationIdentifier> settled = ConcurrentHashMap.newKeySet();
+    private final Set<PlatformConfigurationIdentifier> restored = ConcurrentHashMap.newKeySet();
+    private final Map<PlatformConfigurationIdentifier, String> failures = new ConcurrentHashMap<>();
+
+    public PlatformConfigurationsHydrator(
+            PlatformConfigurationsConverterCommand converterCommand,
+            OutboundMessagingPort outboundMessagingPort,
+            PlatformConfigurationsStorePort platformConfigurationsStorePort,
+            @Qualifier(LISTENER_EXECUTOR) Executor executor,
+            TaskScheduler taskScheduler,
+            AngularPayConfiguration configuration) {
+        this.converterCommand = converterCommand;
+        this.outboundMessagingPort = outboundMessagingPort;
+        this.platformConfigurationsStorePort = platformConfigurationsStorePort;
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+        this.configuration = configuration;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        log.info("restoring last known platform configurations from disk...");
+        Arrays.stream(PlatformConfigurationIdentifier.values()).forEach(this::restore);
+        log.info("hydrating platform configurations from message hash...");
+        Arrays.stream(PlatformConfigurationIdentifier.values()).forEach(this::submit);
+    }
+
+    @Override
+    public Health health() {
+        List<String> pending = Arrays.stream(PlatformConfigurationIdentifier.values())
+                .filter(x -> !isReady(x))
+                .map(Enum::name)
+                .collect(Collectors.toList());
+        if (pending.isEmpty()) {
+            return Health.up().build();
+        }
+        return Health.outOfService()
+                .withDetail("pending", pending)
+                .withDetail("failures", Map.copyOf(this.failures))
+                .build();
+    }
+
+    private boolean isReady(PlatformConfigurationIdentifier identifier) {
+        return this.settled.contains(identifier)
+                || this.restored.contains(identifier)
+                || this.converterCommand.isApplied(identifier);
+    }
+
+    private void restore(PlatformConfigurationIdentifier identifier) {
+        this.platformConfigurationsStorePort.load(identifier).ifPresent(message -> {
+            try {
+                this.converterCommand.execute(message, identifier, DISK);
+                this.restored.add(identifier);
+            } catch (RuntimeException exception) {
+                log.warn("ignoring unreadable last known platform configurations {} value", identifier.name());
+            }
+        });
+    }
+
+    private void submit(PlatformConfigurationIdentifier identifier) {
+        this.executor.execute(() -> hydrate(identifier));
+    }
+
+    private void hydrate(PlatformConfigurationIdentifier identifier) {
+        if (this.converterCommand.isApplied(identifier)) {
+            this.failures.remove(identifier);
+            this.settled.add(identifier);
+            return;
+        }
+        try {
+            String message = this.outboundMessagingPort.getPlatformConfiguration(
+                    PlatformConfigurationIdentifier.getHashName(), identifier.getHashField()
+            );
+            if (StringUtils.hasText(message)) {
+                this.converterCommand.execute(message, identifier, HASH);
+            } else {
+                log.info("platform configurations message hash has no {} value", identifier.name());
+            }
+            this.failures.remove(identifier);
+            this.settled.add(identifier);
+        } catch (RuntimeException exception) {
+            long retryMs = this.configuration.getPlatform().getHydrationRetryMs();
+            log.warn("unable to hydrate platform configurations {} value, retrying in {}ms", identifier.name(), retryMs, exception);
+            this.failures.put(identifier, String.valueOf(exception.getMessage()));
+            this.taskScheduler.schedule(() -> submit(identifier), Instant.now().plusMillis(retryMs));
+        }
+    }
+}
@@ -1,22 +1,21 @@
 package io.angularpay.crypto.adapters.inbound;
 
-import io.angularpay.crypto.adapters.common.RedisConfiguration;
-import io.angularpay.crypto.configurations.AngularPayConfiguration;
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 
+import static io.angularpay.crypto.common.Constants.UPDATES_DELTA_TOPIC;
+import static io.angularpay.crypto.common.Constants.UPDATES_TOPIC;
 import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.*;
 
 @Configuration
-@RequiredArgsConstructor
 public class RedisInboundConfiguration {
 
-    private final RedisConfiguration redisConfiguration;
-
     @Bean
     ChannelTopic banksTopic() {
         return new ChannelTopic(PLATFORM_BANKS.getTopic());
@@ -62,6 +61,16 @@ public class RedisInboundConfiguration {
         return new ChannelTopic(PLATFORM_TTL_CONFIGURATION.getTopic());
     }
 
+    @Bean
+    ChannelTopic cryptoUpdatesTopic() {
+        return new ChannelTopic(UPDATES_TOPIC);
+    }
+
+    @Bean
+    ChannelTopic cryptoUpdatesDeltaTopic() {
+        return new ChannelTopic(UPDATES_DELTA_TOPIC);
+    }
+
 
     @Bean("banksListenerAdapter")
     MessageListenerAdapter banksListenerAdapter(RedisMessageAdapter redisMessageAdapter) {
@@ -108,10 +117,17 @@ public class RedisInboundConfiguration {
         return new MessageListenerAdapter(new UpdatesMessageSubscriber(redisMessageAdapter, PLATFORM_TTL_CONFIGURATION));
     }
 
+    @Bean("cryptoUpdatesListenerAdapter")
+    MessageListenerAdapter cryptoUpdatesListenerAdapter(RedisMessageAdapter redisMessageAdapter) {
+        return new MessageListenerAdapter(new RequestUpdatesMessageSubscriber(redisMessageAdapter));
+    }
+
     @Bean
-    RedisMessageListenerContainer redisMessageListenerContainer(RedisMessageAdapter redisMessageAdapter, AngularPayConfiguration angularPayConfiguration) {
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisMessageAdapter redisMessageAdapter, RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(redisConfiguration.connectionFactory(angularPayConfiguration));
+        container.setConnectionFactory(connectionFactory);
+        container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("redis-subscription-"));
+        container.setTaskExecutor(new SyncTaskExecutor());
         container.addMessageListener(banksListenerAdapter(redisMessageAdapter), banksTopic());
         container.addMessageListener(countriesListenerAdapter(redisMessageAdapter), countriesTopic());
         container.addMessageListener(countryFeaturesListenerAdapter(redisMessageAdapter), countryFeaturesTopic());
@@ -121,6 +137,8 @@ public class RedisInboundConfiguration {
         container.addMessageListener(otpTypesListenerAdapter(redisMessageAdapter), otpTypesTopic());
         container.addMessageListener(servicesListenerAdapter(redisMessageAdapter), servicesTopic());
         container.addMessageListener(ttlConfigurationListenerAdapter(redisMessageAdapter), ttlConfigurationTopic());
+        container.addMessageListener(cryptoUpdatesListenerAdapter(redisMessageAdapter), cryptoUpdatesTopic());
+        container.addMessageListener(cryptoUpdatesListenerAdapter(redisMessageAdapter), cryptoUpdatesDeltaTopic());
         return container;
     }
 
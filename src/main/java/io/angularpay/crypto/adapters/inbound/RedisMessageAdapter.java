@@ -1,21 +1,38 @@
 package io.angularpay.crypto.adapters.inbound;
 
-import io.angularpay.crypto.domain.commands.PlatformConfigurationsConverterCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
 import io.angularpay.crypto.ports.inbound.InboundMessagingPort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.TOPIC;
-
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisMessageAdapter implements InboundMessagingPort {
 
-    private final PlatformConfigurationsConverterCommand converterCommand;
+    private final PlatformConfigurationDispatcher platformConfigurationDispatcher;
+    private final MongoAdapter mongoAdapter;
+    private final ObjectMapper mapper;
 
     @Override
     public void onMessage(String message, PlatformConfigurationIdentifier identifier) {
-        this.converterCommand.execute(message, identifier, TOPIC);
+        this.platformConfigurationDispatcher.dispatch(message, identifier);
+    }
+
+    @Override
+    public void onRequestUpdate(String message) {
+        try {
+            JsonNode update = this.mapper.readTree(message);
+            if (update.hasNonNull("reference") && update.hasNonNull("version")) {
+                this.mongoAdapter.evictRequest(update.get("reference").asText(), update.get("version").asInt());
+            }
+        } catch (JsonProcessingException exception) {
+            log.warn("Unable to read crypto request update from topic", exception);
+        }
     }
 }
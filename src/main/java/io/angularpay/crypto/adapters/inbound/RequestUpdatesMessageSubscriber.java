@@ -0,0 +1,16 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+@RequiredArgsConstructor
+public class RequestUpdatesMessageSubscriber implements MessageListener {
+
+    private final RedisMessageAdapter redisMessageAdapter;
+
+    @Override
+    public void onMessage(Message message, byte[] bytes) {
+        redisMessageAdapter.onRequestUpdate(String.valueOf(message));
+    }
+}
@@ -43,6 +43,7 @@ public class RestApiAdapter implements RestApiPort {
     private final GetRequestListCommand getRequestListCommand;
     private final ScheduledRequestCommand scheduledRequestCommand;
     private final GetStatisticsCommand getStatisticsCommand;
+    private final GetIndexStatisticsCommand getIndexStatisticsCommand;
 
     @PostMapping("/schedule/{schedule}")
     @ResponseBody
@@ -301,6 +302,19 @@ public class RestApiAdapter implements RestApiPort {
                 .authenticatedUser(authenticatedUser)
                 .paging(Paging.builder().size(this.configuration.getPageSize()).index(page).build())
                 .build();
+        return getNewsfeedCommand.execute(genericGetRequestListCommandRequest).getContent();
+    }
+
+    @GetMapping("/list/newsfeed/cursor")
+    @Override
+    public CursorSlice<CryptoRequest> getNewsfeedSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestHeader Map<String, String> headers) {
+        AuthenticatedUser authenticatedUser = fromHeaders(headers);
+        GenericGetRequestListCommandRequest genericGetRequestListCommandRequest = GenericGetRequestListCommandRequest.builder()
+                .authenticatedUser(authenticatedUser)
+                .paging(Paging.builder().size(this.configuration.getPageSize()).cursor(cursor).build())
+                .build();
         return getNewsfeedCommand.execute(genericGetRequestListCommandRequest);
     }
 
@@ -314,6 +328,19 @@ public class RestApiAdapter implements RestApiPort {
                 .authenticatedUser(authenticatedUser)
                 .paging(Paging.builder().size(this.configuration.getPageSize()).index(page).build())
                 .build();
+        return getUserRequestsCommand.execute(getUserRequestsCommandRequest).getContent();
+    }
+
+    @GetMapping("/list/user-request/cursor")
+    @Override
+    public CursorSlice<UserRequestModel> getUserRequestsSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestHeader Map<String, String> headers) {
+        AuthenticatedUser authenticatedUser = fromHeaders(headers);
+        GetUserRequestsCommandRequest getUserRequestsCommandRequest = GetUserRequestsCommandRequest.builder()
+                .authenticatedUser(authenticatedUser)
+                .paging(Paging.builder().size(this.configuration.getPageSize()).cursor(cursor).build())
+                .build();
         return getUserRequestsCommand.execute(getUserRequestsCommandRequest);
     }
 
@@ -343,6 +370,22 @@ public class RestApiAdapter implements RestApiPort {
                 .paging(Paging.builder().size(this.configuration.getPageSize()).index(page).build())
                 .statuses(statuses)
                 .build();
+        return getNewsfeedByStatusCommand.execute(genericGetByStatusCommandRequest).getContent();
+    }
+
+    @GetMapping("/list/newsfeed/cursor/filter/statuses/{statuses}")
+    @ResponseBody
+    @Override
+    public CursorSlice<CryptoRequest> getNewsfeedSliceByStatus(
+            @RequestParam(required = false) String cursor,
+            @PathVariable List<RequestStatus> statuses,
+            @RequestHeader Map<String, String> headers) {
+        AuthenticatedUser authenticatedUser = fromHeaders(headers);
+        GenericGetByStatusCommandRequest genericGetByStatusCommandRequest = GenericGetByStatusCommandRequest.builder()
+                .authenticatedUser(authenticatedUser)
+                .paging(Paging.builder().size(this.configuration.getPageSize()).cursor(cursor).build())
+                .statuses(statuses)
+                .build();
         return getNewsfeedByStatusCommand.execute(genericGetByStatusCommandRequest);
     }
 
@@ -373,6 +416,21 @@ public class RestApiAdapter implements RestApiPort {
                 .authenticatedUser(authenticatedUser)
                 .paging(Paging.builder().size(this.configuration.getPageSize()).index(page).build())
                 .build();
+        return getRequestListCommand.execute(genericGetRequestListCommandRequest).getContent();
+    }
+
+    @GetMapping("/list/cursor")
+    @ResponseBody
+    @Override
+    public CursorSlice<CryptoRequest> getRequestListSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(name = "include_total", defaultValue = "false") boolean includeTotal,
+            @RequestHeader Map<String, String> headers) {
+        AuthenticatedUser authenticatedUser = fromHeaders(headers);
+        GenericGetRequestListCommandRequest genericGetRequestListCommandRequest = GenericGetRequestListCommandRequest.builder()
+                .authenticatedUser(authenticatedUser)
+                .paging(Paging.builder().size(this.configuration.getPageSize()).cursor(cursor).includeTotal(includeTotal).build())
+                .build();
         return getRequestListCommand.execute(genericGetRequestListCommandRequest);
     }
 
@@ -386,4 +444,15 @@ public class RestApiAdapter implements RestApiPort {
                 .build();
         return getStatisticsCommand.execute(getStatisticsCommandRequest);
     }
+
+    @GetMapping("/statistics/indexes")
+    @ResponseBody
+    @Override
+    public List<Statistics> getIndexStatistics(@RequestHeader Map<String, String> headers) {
+        AuthenticatedUser authenticatedUser = fromHeaders(headers);
+        GetStatisticsCommandRequest getStatisticsCommandRequest = GetStatisticsCommandRequest.builder()
+                .authenticatedUser(authenticatedUser)
+                .build();
+        return getIndexStatisticsCommand.execute(getStatisticsCommandRequest);
+    }
 }
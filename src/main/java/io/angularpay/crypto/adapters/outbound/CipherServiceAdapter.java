@@ -23,6 +23,11 @@ public class CipherServiceAdapter implements CipherServicePort {
 
     @Override
     public VerifySignatureResponseModel verifySignature(String requestBody, Map<String, String> headers) {
+        return verifySignatureAsync(requestBody, headers).block();
+    }
+
+    @Override
+    public Mono<VerifySignatureResponseModel> verifySignatureAsync(String requestBody, Map<String, String> headers) {
         URI cipherUrl = UriComponentsBuilder.fromUriString(configuration.getCipherUrl())
                 .path("/cipher/entries/")
                 .path(headers.get("x-angularpay-cipher-reference"))
@@ -45,6 +50,6 @@ public class CipherServiceAdapter implements CipherServicePort {
                         return Mono.just(new VerifySignatureResponseModel(false));
                     }
                 })
-                .block();
+                .defaultIfEmpty(new VerifySignatureResponseModel(false));
     }
 }
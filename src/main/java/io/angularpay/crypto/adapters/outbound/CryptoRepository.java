@@ -2,18 +2,29 @@ package io.angularpay.crypto.adapters.outbound;
 
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.RequestStatus;
-import org.springframework.data.domain.Page;
+import io.angularpay.crypto.models.UserRequestSummary;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static io.angularpay.crypto.common.Constants.CASE_INSENSITIVE_COLLATION;
+
 public interface CryptoRepository extends MongoRepository<CryptoRequest, String> {
 
     Optional<CryptoRequest> findByReference(String reference);
-    Page<CryptoRequest> findAll(Pageable pageable);
-    Page<CryptoRequest> findByStatusIn(Pageable pageable, List<RequestStatus> statuses);
-    Page<CryptoRequest> findAByInvesteeUserReference(Pageable pageable, String userReference);
-    long countByStatus(RequestStatus status);
+    Slice<CryptoRequest> findAllBy(Pageable pageable);
+    Slice<CryptoRequest> findByStatusIn(Pageable pageable, List<RequestStatus> statuses);
+    Slice<UserRequestSummary> findByInvesteeUserReference(Pageable pageable, String userReference);
+
+    // investor references were matched case-insensitively before this query moved into MongoDB
+    @Aggregation(collation = CASE_INSENSITIVE_COLLATION, pipeline = {
+            "{ $match: { investors: { $elemMatch: { userReference: ?0 } } } }",
+            "{ $sort: { createdOn: -1, _id: -1 } }",
+            "{ $project: { reference: 1, createdOn: 1, investors: { $filter: { input: '$investors', as: 'investor', cond: { $eq: [ '$$investor.userReference', ?0 ] } } } } }"
+    })
+    List<CryptoRequest> findInvestmentsByInvestorUserReference(String userReference, Pageable pageable);
 }
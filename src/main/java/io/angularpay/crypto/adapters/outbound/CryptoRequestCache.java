@@ -0,0 +1,66 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+public class CryptoRequestCache {
+
+    private final MongoConverter converter;
+    private final Cache<String, CachedRequest> cache;
+
+    public CryptoRequestCache(MongoConverter converter, AngularPayConfiguration configuration, MeterRegistry meterRegistry) {
+        this.converter = converter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(configuration.getCache().getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(configuration.getCache().getExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "crypto_requests");
+    }
+
+    public Optional<CryptoRequest> get(String reference, Supplier<Optional<CryptoRequest>> loader) {
+        CachedRequest cached = this.cache.getIfPresent(reference);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(this.converter.read(CryptoRequest.class, cached.document));
+        }
+        Optional<CryptoRequest> loaded = loader.get();
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public void put(CryptoRequest request) {
+        Document document = new Document();
+        this.converter.write(request, document);
+        CachedRequest fresh = new CachedRequest(request.getVersion(), document);
+        this.cache.asMap().merge(request.getReference(), fresh,
+                (existing, incoming) -> incoming.version >= existing.version ? incoming : existing);
+    }
+
+    public void evict(String reference) {
+        this.cache.invalidate(reference);
+    }
+
+    public void evictOlderThan(String reference, int version) {
+        this.cache.asMap().computeIfPresent(reference, (key, existing) -> existing.version < version ? null : existing);
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedRequest {
+        private final int version;
+        private final Document document;
+    }
+}
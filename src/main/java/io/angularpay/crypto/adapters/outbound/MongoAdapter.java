@@ -1,64 +1,245 @@
 package io.angularpay.crypto.adapters.outbound;
 
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
 import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.Investor;
+import io.angularpay.crypto.domain.OutboxEvent;
 import io.angularpay.crypto.domain.RequestStatus;
+import io.angularpay.crypto.models.RequestCursor;
+import io.angularpay.crypto.models.UserRequestSummary;
 import io.angularpay.crypto.ports.outbound.PersistencePort;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class MongoAdapter implements PersistencePort {
 
+    public static final String OUTBOX_FIELD = "outbox";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdOn", "id");
+
     private final CryptoRepository cryptoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexManager mongoIndexManager;
+    private final CryptoRequestCache cryptoRequestCache;
+    private final AngularPayConfiguration configuration;
+    private final AtomicReference<ApproximateCount> approximateCount = new AtomicReference<>();
 
     @Override
-    public CryptoRequest createRequest(CryptoRequest request) {
+    public CryptoRequest createRequest(CryptoRequest request, Function<CryptoRequest, List<OutboxEvent>> outbox) {
         request.setCreatedOn(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
         request.setLastModified(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
-        return cryptoRepository.save(request);
+        if (!configuration.getOutbox().isEnabled()) {
+            CryptoRequest created = cryptoRepository.save(request);
+            cryptoRequestCache.put(created);
+            return created;
+        }
+        request.setId(new ObjectId().toHexString());
+        Document document = new Document();
+        mongoTemplate.getConverter().write(request, document);
+        List<OutboxEvent> events = outbox.apply(request);
+        if (!events.isEmpty()) {
+            document.put(OUTBOX_FIELD, mongoTemplate.getConverter().convertToMongoType(events));
+        }
+        mongoTemplate.insert(document, mongoTemplate.getCollectionName(CryptoRequest.class));
+        cryptoRequestCache.put(request);
+        return request;
     }
 
     @Override
-    public CryptoRequest updateRequest(CryptoRequest request) {
+    public CryptoRequest updateRequest(CryptoRequest request, Function<CryptoRequest, List<OutboxEvent>> outbox) {
         request.setLastModified(Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
-        return cryptoRepository.save(request);
+        if (!configuration.getOutbox().isEnabled()) {
+            try {
+                CryptoRequest updated = cryptoRepository.save(request);
+                cryptoRequestCache.put(updated);
+                return updated;
+            } catch (OptimisticLockingFailureException exception) {
+                cryptoRequestCache.evict(request.getReference());
+                throw exception;
+            }
+        }
+        // $set instead of a replace so that events still waiting in the outbox array survive the write
+        CryptoRequest prospective = request.toBuilder().version(request.getVersion() + 1).build();
+        Document document = new Document();
+        mongoTemplate.getConverter().write(prospective, document);
+        Update update = new Update();
+        mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(CryptoRequest.class).forEach(property -> {
+            if (property.isIdProperty()) return;
+            if (document.containsKey(property.getFieldName())) {
+                update.set(property.getFieldName(), document.get(property.getFieldName()));
+            } else {
+                update.unset(property.getFieldName());
+            }
+        });
+        pushOutbox(update, outbox.apply(prospective));
+        Query query = Query.query(Criteria.where("id").is(request.getId()).and("version").is(request.getVersion()));
+        return modify(request, query, update);
+    }
+
+    @Override
+    public CryptoRequest addInvestor(CryptoRequest request, Investor investor, Function<CryptoRequest, List<OutboxEvent>> outbox) throws OptimisticLockingFailureException {
+        String lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+        List<Investor> investors = Objects.isNull(request.getInvestors()) ? new ArrayList<>() : new ArrayList<>(request.getInvestors());
+        investors.add(investor);
+        CryptoRequest prospective = request.toBuilder()
+                .investors(investors)
+                .version(request.getVersion() + 1)
+                .lastModified(lastModified)
+                .build();
+        Query query = Query.query(Criteria.where("reference").is(request.getReference())
+                .and("version").is(request.getVersion()));
+        Update update = new Update()
+                .push("investors", investor)
+                .inc("version", 1)
+                .set("lastModified", lastModified);
+        pushOutbox(update, outbox.apply(prospective));
+        return modify(request, query, update);
+    }
+
+    private CryptoRequest modify(CryptoRequest request, Query query, Update update) {
+        query.fields().exclude(OUTBOX_FIELD);
+        CryptoRequest updated = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), CryptoRequest.class);
+        if (Objects.isNull(updated)) {
+            cryptoRequestCache.evict(request.getReference());
+            throw new OptimisticLockingFailureException(String.format(
+                    "CryptoRequest %s was modified after version %d was read", request.getReference(), request.getVersion()));
+        }
+        cryptoRequestCache.put(updated);
+        return updated;
+    }
+
+    private static void pushOutbox(Update update, List<OutboxEvent> events) {
+        if (!events.isEmpty()) {
+            update.push(OUTBOX_FIELD).each(events.toArray());
+        }
     }
 
     @Override
     public Optional<CryptoRequest> findRequestByReference(String reference) {
-        return cryptoRepository.findByReference(reference);
+        return cryptoRequestCache.get(reference, () -> cryptoRepository.findByReference(reference));
     }
 
     @Override
-    public Page<CryptoRequest> listRequests(Pageable pageable) {
-        return cryptoRepository.findAll(pageable);
+    public void evictRequest(String reference, int version) {
+        cryptoRequestCache.evictOlderThan(reference, version);
     }
 
     @Override
-    public Page<CryptoRequest> findRequestsByStatus(Pageable pageable, List<RequestStatus> statuses) {
-        return cryptoRepository.findByStatusIn(pageable, statuses);
+    public Slice<CryptoRequest> listRequests(Pageable pageable) {
+        return cryptoRepository.findAllBy(newestFirst(pageable));
     }
 
     @Override
-    public Page<CryptoRequest> findByInvesteeUserReference(Pageable pageable, String userReference) {
-        return cryptoRepository.findAByInvesteeUserReference(pageable, userReference);
+    public Slice<CryptoRequest> findRequestsByStatus(Pageable pageable, List<RequestStatus> statuses) {
+        return cryptoRepository.findByStatusIn(newestFirst(pageable), statuses);
     }
 
     @Override
-    public long getCountByRequestStatus(RequestStatus status) {
-        return cryptoRepository.countByStatus(status);
+    public Slice<UserRequestSummary> findByInvesteeUserReference(Pageable pageable, String userReference) {
+        return cryptoRepository.findByInvesteeUserReference(newestFirst(pageable), userReference);
     }
 
     @Override
-    public long getTotalCount() {
-        return cryptoRepository.count();
+    public Slice<CryptoRequest> listRequests(RequestCursor cursor, int size) {
+        return findAfter(new Query(), cursor, size, CryptoRequest.class);
+    }
+
+    @Override
+    public Slice<CryptoRequest> findRequestsByStatus(RequestCursor cursor, int size, List<RequestStatus> statuses) {
+        return findAfter(Query.query(Criteria.where("status").in(statuses)), cursor, size, CryptoRequest.class);
+    }
+
+    @Override
+    public Slice<UserRequestSummary> findByInvesteeUserReference(RequestCursor cursor, int size, String userReference) {
+        return findAfter(Query.query(Criteria.where("investee.userReference").is(userReference)), cursor, size, UserRequestSummary.class);
+    }
+
+    private <T> Slice<T> findAfter(Query query, RequestCursor cursor, int size, Class<T> type) {
+        if (Objects.nonNull(cursor)) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdOn").lt(cursor.getCreatedOn()),
+                    Criteria.where("createdOn").is(cursor.getCreatedOn()).and("id").lt(cursor.getId())
+            ));
+        }
+        query.with(NEWEST_FIRST).limit(size + 1);
+        List<T> found = mongoTemplate.query(CryptoRequest.class).as(type).matching(query).all();
+        boolean hasNext = found.size() > size;
+        return new SliceImpl<>(hasNext ? found.subList(0, size) : found, PageRequest.of(0, size, NEWEST_FIRST), hasNext);
+    }
+
+    private static Pageable newestFirst(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST);
+    }
+
+    @Override
+    public List<CryptoRequest> findInvestmentsByInvestorUserReference(Pageable pageable, String userReference) {
+        return cryptoRepository.findInvestmentsByInvestorUserReference(userReference, pageable);
+    }
+
+    @Override
+    public EnumMap<RequestStatus, Long> getCountsByStatus() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("status").count().as("count")
+        );
+        AggregationResults<Document> results = mongoTemplate.aggregate(aggregation, CryptoRequest.class, Document.class);
+
+        EnumMap<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        Arrays.stream(RequestStatus.values()).forEach(status -> counts.put(status, 0L));
+        results.getMappedResults().forEach(document -> {
+            String status = document.getString("_id");
+            Arrays.stream(RequestStatus.values())
+                    .filter(x -> x.name().equals(status))
+                    .findFirst()
+                    .ifPresent(x -> counts.put(x, ((Number) document.get("count")).longValue()));
+        });
+        return counts;
+    }
+
+    @Override
+    public long getApproximateTotalCount() {
+        ApproximateCount cached = approximateCount.get();
+        long now = System.currentTimeMillis();
+        if (Objects.nonNull(cached) && now < cached.expiresAt) {
+            return cached.count;
+        }
+        long count = mongoTemplate.estimatedCount(CryptoRequest.class);
+        approximateCount.set(new ApproximateCount(count, now + configuration.getStatistics().getApproximateCountTtlMs()));
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getIndexUsage() {
+        return mongoIndexManager.getIndexUsage();
+    }
+
+    @RequiredArgsConstructor
+    private static class ApproximateCount {
+        private final long count;
+        private final long expiresAt;
     }
 }
@@ -0,0 +1,129 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.domain.CryptoRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.angularpay.crypto.common.Constants.CASE_INSENSITIVE_COLLATION;
+import static io.angularpay.crypto.common.Constants.INVESTORS_INDEX;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MongoIndexManager {
+
+    private static final String ID_INDEX = "_id_";
+    private static final List<Class<?>> MANAGED_DOCUMENTS = List.of(CryptoRequest.class);
+    // @CompoundIndex cannot declare a collation, queries using one only pick an index built with the same collation
+    private static final Map<String, Document> COLLATIONS = Map.of(INVESTORS_INDEX, Document.parse(CASE_INSENSITIVE_COLLATION));
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIndexes() {
+        MANAGED_DOCUMENTS.forEach(this::reconcileIndexes);
+    }
+
+    private void reconcileIndexes(Class<?> document) {
+        log.info("reconciling declared {} indexes...", document.getSimpleName());
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(document);
+            IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+            Map<String, IndexInfo> existing = indexOperations.getIndexInfo().stream()
+                    .collect(Collectors.toMap(IndexInfo::getName, Function.identity()));
+
+            Set<String> declared = new HashSet<>();
+            for (IndexDefinition resolved : resolver.resolveIndexFor(document)) {
+                IndexDefinition definition = withCollation(resolved);
+                String name = definition.getIndexOptions().getString("name");
+                declared.add(name);
+                IndexInfo found = existing.get(name);
+                if (Objects.isNull(found)) {
+                    indexOperations.ensureIndex(definition);
+                    log.info("created missing index {} {}", name, definition.getIndexKeys().toJson());
+                } else if (!keysOf(definition).equals(keysOf(found))
+                        || definition.getIndexOptions().getBoolean("unique", false) != found.isUnique()
+                        || !collationMatches(definition, found)) {
+                    log.warn("index {} has drifted from its declaration: declared {} unique={} collation={}, found {} unique={} collation={}",
+                            name, keysOf(definition), definition.getIndexOptions().getBoolean("unique", false),
+                            definition.getIndexOptions().get("collation"), keysOf(found), found.isUnique(),
+                            found.getCollation().orElse(null));
+                }
+            }
+
+            existing.keySet().stream()
+                    .filter(name -> !ID_INDEX.equals(name) && !declared.contains(name))
+                    .forEach(name -> log.warn("index {} exists but is not declared on {}", name, document.getSimpleName()));
+        } catch (Exception exception) {
+            log.error("An error occurred while reconciling {} indexes", document.getSimpleName(), exception);
+        }
+    }
+
+    public Map<String, Long> getIndexUsage() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                context -> new Document("$indexStats", new Document())
+        );
+        Map<String, Long> usage = new TreeMap<>();
+        mongoTemplate.aggregate(aggregation, CryptoRequest.class, Document.class).getMappedResults()
+                .forEach(document -> {
+                    Document accesses = document.get("accesses", Document.class);
+                    long ops = Objects.isNull(accesses) ? 0L : ((Number) accesses.get("ops")).longValue();
+                    usage.merge(document.getString("name"), ops, Long::sum);
+                });
+        return usage;
+    }
+
+    private static IndexDefinition withCollation(IndexDefinition definition) {
+        Document collation = COLLATIONS.get(definition.getIndexOptions().getString("name"));
+        if (Objects.isNull(collation)) return definition;
+        Document keys = definition.getIndexKeys();
+        Document options = new Document(definition.getIndexOptions()).append("collation", collation);
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return keys;
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+
+    private static boolean collationMatches(IndexDefinition definition, IndexInfo found) {
+        Document declared = definition.getIndexOptions().get("collation", Document.class);
+        if (Objects.isNull(declared)) return found.getCollation().isEmpty();
+        // the server reports every collation option, only the declared ones have to match
+        return found.getCollation()
+                .map(existing -> declared.entrySet().stream().allMatch(x -> Objects.equals(x.getValue(), existing.get(x.getKey()))))
+                .orElse(false);
+    }
+
+    private static List<String> keysOf(IndexDefinition definition) {
+        return definition.getIndexKeys().entrySet().stream()
+                .map(x -> x.getKey() + ":" + x.getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> keysOf(IndexInfo info) {
+        return info.getIndexFields().stream()
+                .map(x -> x.getKey() + ":" + (x.getDirection() == Sort.Direction.DESC ? -1 : 1))
+                .collect(Collectors.toList());
+    }
+}
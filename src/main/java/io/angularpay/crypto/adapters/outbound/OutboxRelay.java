@@ -0,0 +1,104 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static io.angularpay.crypto.adapters.outbound.MongoAdapter.OUTBOX_FIELD;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final String EVENT_CREATED_ON = OUTBOX_FIELD + ".createdOn";
+    private static final String LEASE_UNTIL = "outboxLeaseUntil";
+    private static final String LEASE_OWNER = "outboxLeaseOwner";
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisTopicPublisher redisTopicPublisher;
+    private final AngularPayConfiguration configuration;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(fixedDelayString = "${angularpay.outbox.relayIntervalMs:500}")
+    public void relay() {
+        if (!configuration.getOutbox().isEnabled()) return;
+        int batchSize = configuration.getOutbox().getBatchSize();
+        try {
+            int relayed = 0;
+            while (relayed < batchSize) {
+                Document claimed = claim();
+                if (Objects.isNull(claimed)) break;
+                List<OutboxEvent> events = eventsOf(claimed);
+                if (!events.isEmpty()) {
+                    redisTopicPublisher.publishBatch(events);
+                }
+                release(claimed.get("_id"), events);
+                relayed += events.size();
+            }
+            if (relayed > 0) log.debug("relayed {} outbox events", relayed);
+        } catch (Exception exception) {
+            log.error("An error occurred while relaying outbox events, they will be retried once their lease expires", exception);
+        }
+    }
+
+    private Document claim() {
+        long now = System.currentTimeMillis();
+        Query pending = Query.query(Criteria.where(EVENT_CREATED_ON).exists(true)
+                .orOperator(Criteria.where(LEASE_UNTIL).exists(false), Criteria.where(LEASE_UNTIL).lt(now)))
+                .with(Sort.by(Sort.Direction.ASC, EVENT_CREATED_ON));
+        pending.fields().include(OUTBOX_FIELD);
+        Update lease = new Update()
+                .set(LEASE_UNTIL, now + configuration.getOutbox().getLeaseMs())
+                .set(LEASE_OWNER, this.owner);
+        return mongoTemplate.findAndModify(pending, lease, FindAndModifyOptions.options().returnNew(true),
+                Document.class, collectionName());
+    }
+
+    private void release(Object id, List<OutboxEvent> published) {
+        List<String> eventIds = published.stream().map(OutboxEvent::getEventId).collect(Collectors.toList());
+        Update update = new Update().pull(OUTBOX_FIELD, new Document("eventId", new Document("$in", eventIds)));
+        boolean released = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and(LEASE_OWNER).is(this.owner)),
+                update.unset(LEASE_UNTIL).unset(LEASE_OWNER),
+                collectionName()).getMatchedCount() > 0;
+        if (!released) {
+            // the lease expired and was taken over, still drop what this relay already published
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                    new Update().pull(OUTBOX_FIELD, new Document("eventId", new Document("$in", eventIds))),
+                    collectionName());
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id).and(OUTBOX_FIELD).size(0)),
+                new Update().unset(OUTBOX_FIELD), collectionName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> eventsOf(Document claimed) {
+        List<Document> outbox = claimed.get(OUTBOX_FIELD, List.class);
+        if (Objects.isNull(outbox)) return Collections.emptyList();
+        return outbox.stream()
+                .map(event -> mongoTemplate.getConverter().read(OutboxEvent.class, event))
+                .collect(Collectors.toList());
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(CryptoRequest.class);
+    }
+}
@@ -0,0 +1,77 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+import io.angularpay.crypto.ports.outbound.PlatformConfigurationsStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@Slf4j
+@Service
+public class PlatformConfigurationsFileStore implements PlatformConfigurationsStorePort {
+
+    private static final String EXTENSION = ".json";
+
+    private final Path directory;
+
+    public PlatformConfigurationsFileStore(AngularPayConfiguration configuration) {
+        String cacheDirectory = configuration.getPlatform().getCacheDirectory();
+        this.directory = StringUtils.hasText(cacheDirectory) ? Paths.get(cacheDirectory) : null;
+    }
+
+    @Override
+    public Optional<String> load(PlatformConfigurationIdentifier identifier) {
+        if (Objects.isNull(this.directory)) return Optional.empty();
+        Path file = fileOf(identifier);
+        if (!Files.isRegularFile(file)) return Optional.empty();
+        try {
+            return Optional.of(Files.readString(file, StandardCharsets.UTF_8)).filter(StringUtils::hasText);
+        } catch (IOException exception) {
+            log.warn("unable to read last known platform configurations {} value from {}", identifier.name(), file, exception);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(PlatformConfigurationIdentifier identifier, String message) {
+        if (Objects.isNull(this.directory)) return;
+        Path file = fileOf(identifier);
+        try {
+            Files.createDirectories(this.directory);
+            Path temporary = Files.createTempFile(this.directory, identifier.getHashField(), ".tmp");
+            try {
+                Files.writeString(temporary, message, StandardCharsets.UTF_8);
+                move(temporary, file);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException exception) {
+            log.warn("unable to write last known platform configurations {} value to {}", identifier.name(), file, exception);
+        }
+    }
+
+    private Path fileOf(PlatformConfigurationIdentifier identifier) {
+        return this.directory.resolve(identifier.getHashField() + EXTENSION);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package io.angularpay.crypto.adapters.outbound;
 
+import io.angularpay.crypto.ports.outbound.EventSink;
 import io.angularpay.crypto.ports.outbound.OutboundMessagingPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 
+import static io.angularpay.crypto.common.Constants.*;
+
 @Service
 @RequiredArgsConstructor
-public class RedisAdapter implements OutboundMessagingPort {
+public class RedisAdapter implements OutboundMessagingPort, EventSink {
 
     private final RedisTopicPublisher redisTopicPublisher;
     private final RedisHashClient redisHashClient;
@@ -18,6 +21,11 @@ public class RedisAdapter implements OutboundMessagingPort {
         this.redisTopicPublisher.publishUpdates(message);
     }
 
+    @Override
+    public void publishUpdatesDelta(String message) {
+        this.redisTopicPublisher.publishUpdatesDelta(message);
+    }
+
     @Override
     public void publishTTL(String message) {
         this.redisTopicPublisher.publishTTL(message);
@@ -29,7 +37,52 @@ public class RedisAdapter implements OutboundMessagingPort {
     }
 
     @Override
-    public Map<String, String> getPlatformConfigurations(String hashName) {
-        return this.redisHashClient.getPlatformConfigurations(hashName);
+    public void publish(String topic, String message) {
+        switch (topic) {
+            case UPDATES_TOPIC:
+                this.publishUpdates(message);
+                break;
+            case UPDATES_DELTA_TOPIC:
+                this.publishUpdatesDelta(message);
+                break;
+            case TTL_TOPIC:
+                this.publishTTL(message);
+                break;
+            case USER_NOTIFICATIONS_TOPIC:
+                this.publishUserNotification(message);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown topic %s", topic));
+        }
+    }
+
+    @Override
+    public String getPlatformConfiguration(String hashName, String hashField) {
+        return this.redisHashClient.getPlatformConfiguration(hashName, hashField);
+    }
+
+    @Override
+    public Map<String, String> getStatusCounters(String hashName) {
+        return this.redisHashClient.getStatusCounters(hashName);
+    }
+
+    @Override
+    public boolean incrementStatusCounters(String hashName, String epoch, Map<String, Long> deltas) {
+        return this.redisHashClient.incrementStatusCounters(hashName, epoch, deltas);
+    }
+
+    @Override
+    public long resetStatusCounters(String hashName, Map<String, Long> counts) {
+        return this.redisHashClient.resetStatusCounters(hashName, counts);
+    }
+
+    @Override
+    public boolean acquireLock(String key, String owner, long ttlMs) {
+        return this.redisHashClient.acquireLock(key, owner, ttlMs);
+    }
+
+    @Override
+    public void releaseLock(String key, String owner) {
+        this.redisHashClient.releaseLock(key, owner);
     }
 }
@@ -1,29 +1,75 @@
 package io.angularpay.crypto.adapters.outbound;
 
-import io.angularpay.crypto.configurations.AngularPayConfiguration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import redis.clients.jedis.Jedis;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class RedisHashClient {
 
-    private final AngularPayConfiguration configuration;
+    public static final String EPOCH_FIELD = "epoch";
 
-    private Jedis jedisInstance() {
-        return new Jedis(
-                configuration.getRedis().getHost(),
-                configuration.getRedis().getPort(),
-                configuration.getRedis().getTimeout()
-        );
+    static final RedisScript<Long> INCREMENT_IN_EPOCH = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], '" + EPOCH_FIELD + "') ~= ARGV[1] then return 0 end " +
+                    "for i = 2, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "return 1",
+            Long.class);
+
+    static final RedisScript<Long> RESET_WITH_NEW_EPOCH = new DefaultRedisScript<>(
+            "local epoch = redis.call('HINCRBY', KEYS[1], '" + EPOCH_FIELD + "', 1) " +
+                    "for i = 1, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "return epoch",
+            Long.class);
+
+    static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate template;
+
+    public String getPlatformConfiguration(String hashName, String hashField) {
+        return template.<String, String>opsForHash().get(hashName, hashField);
+    }
+
+    public Map<String, String> getStatusCounters(String hashName) {
+        return template.<String, String>opsForHash().entries(hashName);
+    }
+
+    public boolean incrementStatusCounters(String hashName, String epoch, Map<String, Long> deltas) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add(epoch);
+        deltas.forEach((field, delta) -> {
+            arguments.add(field);
+            arguments.add(String.valueOf(delta));
+        });
+        Long applied = template.execute(INCREMENT_IN_EPOCH, List.of(hashName), arguments.toArray());
+        return Objects.equals(applied, 1L);
+    }
+
+    public long resetStatusCounters(String hashName, Map<String, Long> counts) {
+        List<String> arguments = new ArrayList<>();
+        counts.forEach((field, count) -> {
+            arguments.add(field);
+            arguments.add(String.valueOf(count));
+        });
+        Long epoch = template.execute(RESET_WITH_NEW_EPOCH, List.of(hashName), arguments.toArray());
+        return Objects.requireNonNull(epoch);
+    }
+
+    public boolean acquireLock(String key, String owner, long ttlMs) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(key, owner, Duration.ofMillis(ttlMs)));
     }
 
-    public Map<String, String> getPlatformConfigurations(String hashName) {
-        try (Jedis jedis = jedisInstance()) {
-            return jedis.hgetAll(hashName);
-        }
+    public void releaseLock(String key, String owner) {
+        template.execute(RELEASE_LOCK, List.of(key), owner);
     }
 }
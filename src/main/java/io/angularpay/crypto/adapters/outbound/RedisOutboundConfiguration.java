@@ -14,6 +14,11 @@ public class RedisOutboundConfiguration {
         return new ChannelTopic(UPDATES_TOPIC);
     }
 
+    @Bean
+    ChannelTopic updatesDeltaTopic() {
+        return new ChannelTopic(UPDATES_DELTA_TOPIC);
+    }
+
     @Bean
     ChannelTopic ttlTopic() {
         return new ChannelTopic(TTL_TOPIC);
@@ -1,28 +1,192 @@
 package io.angularpay.crypto.adapters.outbound;
 
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisTopicPublisher {
 
+    private static final byte[] MAXLEN = "MAXLEN".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] APPROXIMATE = "~".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] AUTO_ID = "*".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_ID_FIELD = "event_id".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAYLOAD_FIELD = "payload".getBytes(StandardCharsets.UTF_8);
+
     private final StringRedisTemplate template;
     private final ChannelTopic updatesTopic;
+    private final ChannelTopic updatesDeltaTopic;
     private final ChannelTopic ttlTopic;
     private final ChannelTopic userNotificationsTopic;
+    private final AngularPayConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+
+    private Set<String> alwaysPublished;
+    private BlockingQueue<PendingMessage> pending;
+    private DistributionSummary batchSizes;
+    private Counter failures;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        AngularPayConfiguration.Redis.Publisher publisher = configuration.getRedis().getPublisher();
+        // instances invalidate their request caches from the updates channels, so those stay on pub/sub in every transport
+        this.alwaysPublished = Set.of(updatesTopic.getTopic(), updatesDeltaTopic.getTopic());
+        if (!configuration.getMessaging().getTransport().includesPubSub()) {
+            log.warn("messaging transport is {}, {} are still published over pub/sub", configuration.getMessaging().getTransport(), this.alwaysPublished);
+        }
+        this.pending = new LinkedBlockingQueue<>(publisher.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("crypto.redis.publish.batch.size")
+                .description("Messages sent per pipelined Redis publish")
+                .register(meterRegistry);
+        this.failures = Counter.builder("crypto.redis.publish.failures")
+                .description("Messages dropped because a pipelined Redis publish failed")
+                .register(meterRegistry);
+        this.running = true;
+        this.flusher = new Thread(() -> drain(publisher.getBatchSize(), publisher.getWindowMs()), "redis-topic-publisher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        this.flusher.join(TimeUnit.SECONDS.toMillis(configuration.getRedis().getPublisher().getShutdownTimeoutSeconds()));
+        List<PendingMessage> remaining = new ArrayList<>();
+        this.pending.drainTo(remaining);
+        if (!remaining.isEmpty()) send(remaining);
+    }
 
     public void publishUpdates(String message) {
-        template.convertAndSend(updatesTopic.getTopic(), message);
+        enqueue(updatesTopic.getTopic(), message);
+    }
+
+    public void publishUpdatesDelta(String message) {
+        enqueue(updatesDeltaTopic.getTopic(), message);
     }
 
     public void publishTTL(String message) {
-        template.convertAndSend(ttlTopic.getTopic(), message);
+        enqueue(ttlTopic.getTopic(), message);
     }
 
     public void publishUserNotification(String message) {
-        template.convertAndSend(userNotificationsTopic.getTopic(), message);
+        enqueue(userNotificationsTopic.getTopic(), message);
+    }
+
+    public void publishBatch(List<OutboxEvent> events) {
+        pipeline(events.stream()
+                .map(event -> new PendingMessage(event.getEventId(), event.getTopic(), event.getPayload()))
+                .collect(Collectors.toList()));
+    }
+
+    private void enqueue(String topic, String message) {
+        // only outbox events carry a stable id, a fresh one per call would defeat deduplication on retries
+        PendingMessage pendingMessage = new PendingMessage(null, topic, message);
+        if (!this.running) {
+            send(List.of(pendingMessage));
+            return;
+        }
+        try {
+            // waiting for room keeps each topic in enqueue order, a direct send would overtake queued messages
+            if (this.pending.offer(pendingMessage, configuration.getRedis().getPublisher().getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.warn("REDIS publish queue stayed full, publishing {} message directly", topic);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            log.warn("interrupted while queueing {} message for REDIS, publishing it directly", topic);
+        }
+        send(List.of(pendingMessage));
+    }
+
+    private void drain(int batchSize, long windowMs) {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (this.running || !this.pending.isEmpty()) {
+            try {
+                PendingMessage first = this.pending.poll(windowMs, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first)) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingMessage next = this.pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (Objects.isNull(next)) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.running = false;
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<PendingMessage> batch) {
+        try {
+            pipeline(batch);
+        } catch (Exception exception) {
+            this.failures.increment(batch.size());
+            log.error("An error occurred while publishing {} messages to REDIS", batch.size(), exception);
+        }
+    }
+
+    private void pipeline(List<PendingMessage> batch) {
+        RedisSerializer<String> serializer = template.getStringSerializer();
+        AngularPayConfiguration.Messaging messaging = configuration.getMessaging();
+        byte[] maxLength = serializer.serialize(String.valueOf(messaging.getStreamMaxLength()));
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            batch.forEach(message -> {
+                byte[] topic = serializer.serialize(message.topic);
+                byte[] payload = serializer.serialize(message.message);
+                if (messaging.getTransport().includesPubSub() || this.alwaysPublished.contains(message.topic)) {
+                    connection.publish(topic, payload);
+                }
+                if (messaging.getTransport().includesStreams()) {
+                    if (Objects.isNull(message.id)) {
+                        connection.execute("XADD", topic, MAXLEN, APPROXIMATE, maxLength, AUTO_ID, PAYLOAD_FIELD, payload);
+                    } else {
+                        connection.execute("XADD", topic, MAXLEN, APPROXIMATE, maxLength, AUTO_ID,
+                                EVENT_ID_FIELD, serializer.serialize(message.id), PAYLOAD_FIELD, payload);
+                    }
+                }
+            });
+            return null;
+        });
+        this.batchSizes.record(batch.size());
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingMessage {
+        private final String id;
+        private final String topic;
+        private final String message;
     }
 }
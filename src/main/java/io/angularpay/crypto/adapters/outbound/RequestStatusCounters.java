@@ -0,0 +1,162 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.RequestStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.angularpay.crypto.adapters.outbound.RedisHashClient.EPOCH_FIELD;
+import static io.angularpay.crypto.common.Constants.STATUS_COUNTERS_HASH;
+import static io.angularpay.crypto.common.Constants.STATUS_COUNTERS_LOCK;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestStatusCounters {
+
+    private final MongoAdapter mongoAdapter;
+    private final RedisAdapter redisAdapter;
+    private final AngularPayConfiguration configuration;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final Map<RequestStatus, LongAdder> local = initialise(LongAdder::new);
+    private final Map<RequestStatus, AtomicLong> flushed = initialise(AtomicLong::new);
+    private final AtomicReference<EnumMap<RequestStatus, Long>> shared = new AtomicReference<>();
+    private volatile String epoch;
+
+    public void onCreated(RequestStatus status) {
+        if (Objects.nonNull(status)) {
+            this.local.get(status).increment();
+        }
+    }
+
+    public void onStatusChanged(RequestStatus previous, RequestStatus current) {
+        if (previous == current) return;
+        if (Objects.nonNull(previous)) {
+            this.local.get(previous).decrement();
+        }
+        if (Objects.nonNull(current)) {
+            this.local.get(current).increment();
+        }
+    }
+
+    public EnumMap<RequestStatus, Long> getCountsByStatus() {
+        // seeded before the application reports ready, until then only the local transitions are known
+        EnumMap<RequestStatus, Long> base = this.shared.get();
+        EnumMap<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        for (RequestStatus status : RequestStatus.values()) {
+            long shared = Objects.isNull(base) ? 0L : base.getOrDefault(status, 0L);
+            counts.put(status, shared + this.pendingDelta(status));
+        }
+        return counts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        log.info("seeding request status counters...");
+        this.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${angularpay.statistics.flushIntervalMs:1000}")
+    public synchronized void flush() {
+        try {
+            if (Objects.nonNull(this.epoch)) {
+                Map<RequestStatus, Long> deltas = new EnumMap<>(RequestStatus.class);
+                for (RequestStatus status : RequestStatus.values()) {
+                    long delta = this.pendingDelta(status);
+                    if (delta != 0) deltas.put(status, delta);
+                }
+                if (!deltas.isEmpty()) {
+                    Map<String, Long> fields = new HashMap<>();
+                    deltas.forEach((status, delta) -> fields.put(status.name(), delta));
+                    if (this.redisAdapter.incrementStatusCounters(STATUS_COUNTERS_HASH, this.epoch, fields)) {
+                        deltas.forEach((status, delta) -> this.flushed.get(status).addAndGet(delta));
+                    } else {
+                        // the counters were recounted since this epoch began, so these transitions are already in the recount
+                        log.info("discarding request status deltas {} recorded before the counters were reconciled", deltas);
+                        this.rebase();
+                    }
+                }
+            }
+
+            Map<String, String> persisted = this.redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH);
+            if (CollectionUtils.isEmpty(persisted) || !persisted.containsKey(EPOCH_FIELD)) {
+                this.reconcile();
+            } else {
+                this.adopt(persisted.get(EPOCH_FIELD), parse(persisted));
+            }
+        } catch (Exception exception) {
+            log.error("An error occurred while flushing request status counters", exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${angularpay.statistics.reconcileIntervalMs:300000}")
+    public synchronized void reconcile() {
+        long lockTtlMs = this.configuration.getStatistics().getReconcileLockTtlMs();
+        try {
+            if (!this.redisAdapter.acquireLock(STATUS_COUNTERS_LOCK, this.owner, lockTtlMs)) {
+                log.debug("request status counters are being reconciled by another instance");
+                return;
+            }
+        } catch (Exception exception) {
+            log.error("An error occurred while locking request status counters for reconciliation", exception);
+            return;
+        }
+        try {
+            EnumMap<RequestStatus, Long> counts = this.mongoAdapter.getCountsByStatus();
+            Map<String, Long> fields = new HashMap<>();
+            counts.forEach((status, count) -> fields.put(status.name(), count));
+            long reconciled = this.redisAdapter.resetStatusCounters(STATUS_COUNTERS_HASH, fields);
+
+            // deltas of the old epoch are part of the recount and are rejected by the epoch check from now on
+            this.adopt(String.valueOf(reconciled), counts);
+            log.info("reconciled request status counters {} in epoch {}", counts, reconciled);
+        } catch (Exception exception) {
+            log.error("An error occurred while reconciling request status counters", exception);
+        } finally {
+            this.redisAdapter.releaseLock(STATUS_COUNTERS_LOCK, this.owner);
+        }
+    }
+
+    private void adopt(String persistedEpoch, EnumMap<RequestStatus, Long> counts) {
+        if (!Objects.equals(this.epoch, persistedEpoch)) {
+            this.epoch = persistedEpoch;
+            this.rebase();
+        }
+        this.shared.set(counts);
+    }
+
+    private void rebase() {
+        this.local.forEach((status, adder) -> this.flushed.get(status).set(adder.sum()));
+    }
+
+    private long pendingDelta(RequestStatus status) {
+        return this.local.get(status).sum() - this.flushed.get(status).get();
+    }
+
+    private static EnumMap<RequestStatus, Long> parse(Map<String, String> persisted) {
+        EnumMap<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        for (RequestStatus status : RequestStatus.values()) {
+            String value = persisted.get(status.name());
+            counts.put(status, Objects.isNull(value) ? 0L : Long.parseLong(value));
+        }
+        return counts;
+    }
+
+    private static <T> Map<RequestStatus, T> initialise(Supplier<T> supplier) {
+        Map<RequestStatus, T> map = new EnumMap<>(RequestStatus.class);
+        Arrays.stream(RequestStatus.values()).forEach(status -> map.put(status, supplier.get()));
+        return Collections.unmodifiableMap(map);
+    }
+}
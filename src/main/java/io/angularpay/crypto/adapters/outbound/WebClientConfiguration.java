@@ -10,8 +10,9 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.tcp.TcpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -25,8 +26,18 @@ public class WebClientConfiguration {
                 .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(size))
                 .build();
 
-        final var tcpClient = TcpClient
-                .create()
+        final AngularPayConfiguration.Http http = configuration.getHttp();
+        final ConnectionProvider connectionProvider = ConnectionProvider.builder("angularpay-webclient")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(http.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(http.getMaxIdleTimeMs()))
+                .evictInBackground(Duration.ofMillis(http.getEvictInBackgroundMs()))
+                .metrics(true)
+                .build();
+
+        final var httpClient = HttpClient
+                .create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TIMEOUT)
                 .doOnConnected(connection -> {
                     connection.addHandlerLast(new ReadTimeoutHandler(TIMEOUT, TimeUnit.MILLISECONDS));
@@ -34,7 +45,7 @@ public class WebClientConfiguration {
                 });
 
         return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(HttpClient.from(tcpClient)))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .exchangeStrategies(strategies)
                 .build();
     }
@@ -2,8 +2,13 @@ package io.angularpay.crypto.common;
 
 public class Constants {
     public static final String UPDATES_TOPIC = "crypto";
+    public static final String UPDATES_DELTA_TOPIC = "crypto-delta";
     public static final String TTL_TOPIC = "crypto-ttl";
     public static final String USER_NOTIFICATIONS_TOPIC = "user-notifications";
     public static final String ERROR_SOURCE = "crypto-service";
     public static final String SERVICE_CODE = "CTO";
+    public static final String STATUS_COUNTERS_HASH = "crypto-status-counters";
+    public static final String STATUS_COUNTERS_LOCK = "crypto-status-counters-lock";
+    public static final String INVESTORS_INDEX = "investors_user_reference_ci_created_on";
+    public static final String CASE_INSENSITIVE_COLLATION = "{ 'locale': 'en', 'strength': 2 }";
 }
@@ -1,6 +1,7 @@
 package io.angularpay.crypto.configurations;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,11 +17,140 @@ public class AngularPayConfiguration {
     private int codecSizeInMB;
     private int maxUpdateRetry;
     private Redis redis;
+    private Statistics statistics;
+    private Cache cache;
+    private Publishing publishing;
+    private Outbox outbox;
+    private FanOut fanOut;
+    private Publishing listener;
+    private UpdatesFormat updatesFormat = UpdatesFormat.SNAPSHOT;
+    private Messaging messaging;
+    private Platform platform;
+    private Http http;
+    private Cipher cipher;
 
     @Data
     public static class Redis {
         private String host;
         private int port;
         private int timeout;
+        private int connectTimeoutMs;
+        private int readTimeoutMs;
+        private RedisDriver driver = RedisDriver.JEDIS;
+        private Publisher publisher;
+        private Pool pool;
+
+        @Data
+        public static class Pool {
+            private int maxTotal;
+            private int maxIdle;
+            private int minIdle;
+            private long maxWaitMs;
+        }
+
+        @Data
+        public static class Publisher {
+            private int batchSize;
+            private long windowMs;
+            private int queueCapacity;
+            private long enqueueTimeoutMs;
+            private long shutdownTimeoutSeconds;
+        }
+    }
+
+    @Data
+    public static class Statistics {
+        private long flushIntervalMs;
+        private long reconcileIntervalMs;
+        private long reconcileLockTtlMs;
+        private long approximateCountTtlMs;
+    }
+
+    @Data
+    public static class Cache {
+        private long maximumSize;
+        private long expireAfterWriteSeconds;
+    }
+
+    @Data
+    public static class Publishing {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+        private int awaitTerminationSeconds;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class FanOut extends Publishing {
+        private int perRequestConcurrency;
+    }
+
+    @Data
+    public static class Outbox {
+        private boolean enabled;
+        private int batchSize;
+        private long leaseMs;
+        private long relayIntervalMs;
+    }
+
+    @Data
+    public static class Http {
+        private int maxConnections;
+        private int pendingAcquireMaxCount;
+        private long pendingAcquireTimeoutMs;
+        private long maxIdleTimeMs;
+        private long evictInBackgroundMs;
+    }
+
+    @Data
+    public static class Cipher {
+        private boolean enabled = true;
+        private long asyncTimeoutMs;
+    }
+
+    @Data
+    public static class Platform {
+        private long hydrationRetryMs;
+        private String cacheDirectory;
+    }
+
+    @Data
+    public static class Messaging {
+        private Transport transport = Transport.PUBSUB;
+        private long streamMaxLength;
+    }
+
+    public enum RedisDriver {
+        JEDIS, LETTUCE
+    }
+
+    public enum Transport {
+        PUBSUB, STREAMS, BOTH;
+
+        public boolean includesPubSub() {
+            return this != STREAMS;
+        }
+
+        public boolean includesStreams() {
+            return this != PUBSUB;
+        }
+    }
+
+    public enum UpdatesFormat {
+        SNAPSHOT, DELTA, BOTH;
+
+        public boolean includesSnapshot() {
+            return this != DELTA;
+        }
+
+        public boolean includesDelta() {
+            return this != SNAPSHOT;
+        }
+    }
+
+    public enum RejectionPolicy {
+        ABORT, CALLER_RUNS, DISCARD, DISCARD_OLDEST
     }
 }
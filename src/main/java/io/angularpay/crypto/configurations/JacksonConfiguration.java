@@ -0,0 +1,83 @@
+package io.angularpay.crypto.configurations;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.helpers.CryptoRequestPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    public Module prerenderedCryptoRequestModule() {
+        SimpleModule module = new SimpleModule("PrerenderedCryptoRequest");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description, JsonSerializer<?> serializer) {
+                return CryptoRequest.class.isAssignableFrom(description.getBeanClass())
+                        ? new PrerenderedSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+        return module;
+    }
+
+    // writes the JSON a CryptoRequestPayload already rendered for the same request instance instead of serializing it again
+    @RequiredArgsConstructor
+    private static class PrerenderedSerializer extends JsonSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            Object payload = provider.getAttribute(CryptoRequestPayload.ATTRIBUTE);
+            if (payload instanceof CryptoRequestPayload && ((CryptoRequestPayload) payload).renders(value)) {
+                generator.writeRawValue(((CryptoRequestPayload) payload).getJson());
+            } else {
+                this.delegate.serialize(value, generator, provider);
+            }
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+            this.delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return this.delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (this.delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) this.delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (!(this.delegate instanceof ContextualSerializer)) return this;
+            JsonSerializer<?> contextual = ((ContextualSerializer) this.delegate).createContextual(provider, property);
+            return contextual == this.delegate ? this : new PrerenderedSerializer((JsonSerializer<Object>) contextual);
+        }
+    }
+}
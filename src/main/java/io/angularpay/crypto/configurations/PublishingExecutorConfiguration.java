@@ -0,0 +1,63 @@
+package io.angularpay.crypto.configurations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PublishingExecutorConfiguration {
+
+    public static final String PUBLISHING_EXECUTOR = "publishingExecutor";
+    public static final String FAN_OUT_EXECUTOR = "fanOutExecutor";
+    public static final String LISTENER_EXECUTOR = "listenerExecutor";
+
+    @Bean(PUBLISHING_EXECUTOR)
+    public ThreadPoolTaskExecutor publishingExecutor(AngularPayConfiguration configuration, MeterRegistry meterRegistry) {
+        return boundedExecutor(PUBLISHING_EXECUTOR, "publisher-", configuration.getPublishing(), meterRegistry);
+    }
+
+    @Bean(FAN_OUT_EXECUTOR)
+    public ThreadPoolTaskExecutor fanOutExecutor(AngularPayConfiguration configuration, MeterRegistry meterRegistry) {
+        return boundedExecutor(FAN_OUT_EXECUTOR, "fan-out-", configuration.getFanOut(), meterRegistry);
+    }
+
+    @Bean(LISTENER_EXECUTOR)
+    public ThreadPoolTaskExecutor listenerExecutor(AngularPayConfiguration configuration, MeterRegistry meterRegistry) {
+        return boundedExecutor(LISTENER_EXECUTOR, "listener-", configuration.getListener(), meterRegistry);
+    }
+
+    private static ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix, AngularPayConfiguration.Publishing publishing, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(publishing.getCorePoolSize());
+        executor.setMaxPoolSize(publishing.getMaxPoolSize());
+        executor.setQueueCapacity(publishing.getQueueCapacity());
+        executor.setRejectedExecutionHandler(rejectionHandler(publishing.getRejectionPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(publishing.getAwaitTerminationSeconds());
+        executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Collections.emptyList())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(AngularPayConfiguration.RejectionPolicy policy) {
+        switch (policy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            case CALLER_RUNS:
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+}
@@ -8,15 +8,27 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
 
+import static io.angularpay.crypto.common.Constants.INVESTORS_INDEX;
+
 @Data
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document("crypto_requests")
+@CompoundIndexes({
+        @CompoundIndex(name = "created_on_id", def = "{'createdOn': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_created_on", def = "{'status': 1, 'createdOn': -1, '_id': -1}"),
+        @CompoundIndex(name = "investee_user_reference_created_on", def = "{'investee.userReference': 1, 'createdOn': -1, '_id': -1}"),
+        @CompoundIndex(name = INVESTORS_INDEX, def = "{'investors.userReference': 1, 'createdOn': -1, '_id': -1}"),
+        @CompoundIndex(name = "outbox_created_on", def = "{'outbox.createdOn': 1}", sparse = true)
+})
 public class CryptoRequest {
 
     @Id
@@ -35,6 +47,7 @@ public class CryptoRequest {
     private List<Investor> investors;
     @JsonProperty("last_modified")
     private String lastModified;
+    @Indexed(name = "reference", unique = true)
     private String reference;
     @JsonProperty("request_tag")
     private String requestTag;
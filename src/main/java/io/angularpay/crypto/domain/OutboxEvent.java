@@ -0,0 +1,18 @@
+package io.angularpay.crypto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    private String eventId;
+    private String topic;
+    private String payload;
+    private long createdOn;
+}
@@ -1,20 +1,36 @@
 package io.angularpay.crypto.domain.commands;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.OutboxEvent;
 import io.angularpay.crypto.domain.Role;
 import io.angularpay.crypto.exceptions.CommandException;
 import io.angularpay.crypto.exceptions.ErrorObject;
 import io.angularpay.crypto.exceptions.ValidationException;
+import io.angularpay.crypto.helpers.CryptoRequestPayload;
+import io.angularpay.crypto.helpers.NotificationFanOut;
+import io.angularpay.crypto.helpers.UnitOfWork;
 import io.angularpay.crypto.models.AccessControl;
+import io.angularpay.crypto.ports.outbound.EventSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 
+import static io.angularpay.crypto.configurations.PublishingExecutorConfiguration.PUBLISHING_EXECUTOR;
 import static io.angularpay.crypto.exceptions.ErrorCode.*;
 import static io.angularpay.crypto.helpers.Helper.*;
 
@@ -24,8 +40,33 @@ public abstract class AbstractCommand<T extends AccessControl, R> {
 
     protected final String name;
     protected final ObjectMapper mapper;
+    private Executor publishingExecutor;
+    private NotificationFanOut notificationFanOut;
+    private AngularPayConfiguration.UpdatesFormat updatesFormat = AngularPayConfiguration.UpdatesFormat.SNAPSHOT;
+    private boolean outboxEnabled;
+
+    @Autowired
+    public void setPublishingExecutor(@Qualifier(PUBLISHING_EXECUTOR) Executor publishingExecutor, AngularPayConfiguration configuration) {
+        this.publishingExecutor = publishingExecutor;
+        this.updatesFormat = configuration.getUpdatesFormat();
+        this.outboxEnabled = configuration.getOutbox().isEnabled();
+    }
+
+    @Autowired
+    public void setNotificationFanOut(NotificationFanOut notificationFanOut) {
+        this.notificationFanOut = notificationFanOut;
+    }
+
+    @PostConstruct
+    public void verifyPublishingCollaborators() {
+        // publishing must never quietly fall back to running on the request thread
+        if (Objects.isNull(this.publishingExecutor) || Objects.isNull(this.notificationFanOut)) {
+            throw new IllegalStateException(String.format("%s was created without its publishing executor or notification fan-out", this.name));
+        }
+    }
 
     public R execute(T request) {
+        boolean unitOfWorkOwner = UnitOfWork.begin();
         try {
             log.info("received {} request {}", this.name, maskAuthenticatedUser(mapper, request));
             log.info("validating {} request...", this.name);
@@ -63,24 +104,30 @@ public abstract class AbstractCommand<T extends AccessControl, R> {
             R response = this.handle(request);
             log.info("{} request successfully processed", this.name);
 
-            String responseText = writeAsStringOrDefault(mapper, response);
+            CryptoRequestPayload payload = response instanceof CryptoRequestSupplier
+                    && Objects.nonNull(((CryptoRequestSupplier) response).getCryptoRequest())
+                    ? new CryptoRequestPayload(mapper, ((CryptoRequestSupplier) response).getCryptoRequest(), this.name)
+                    : null;
+            String responseText = Objects.nonNull(payload)
+                    ? writeAsStringOrDefault(mapper, response, payload)
+                    : writeAsStringOrDefault(mapper, response);
 
-            if (this instanceof UpdatesPublisherCommand && response instanceof CryptoRequestSupplier) {
+            if (!this.outboxEnabled && this instanceof UpdatesPublisherCommand && response instanceof CryptoRequestSupplier) {
                 log.info("publishing {} update to REDIS => message payload:  {}", this.name, responseText);
-                Executors.newSingleThreadExecutor().submit(() -> {
-                    ((UpdatesPublisherCommand)this).publishUpdates((CryptoRequestSupplier)response);
+                this.publishingExecutor.execute(() -> {
+                    ((UpdatesPublisherCommand)this).publishUpdates((CryptoRequestSupplier)response, payload, this.updatesFormat);
                 });
             }
-            if (this instanceof TTLPublisherCommand && response instanceof CryptoRequestSupplier) {
+            if (!this.outboxEnabled && this instanceof TTLPublisherCommand && response instanceof CryptoRequestSupplier) {
                 log.info("publishing {} TTL to REDIS", this.name);
-                Executors.newSingleThreadExecutor().submit(() -> {
+                this.publishingExecutor.execute(() -> {
                     ((TTLPublisherCommand)this).publishTTL((CryptoRequestSupplier)response);
                 });
             }
-            if (this instanceof UserNotificationsPublisherCommand && response instanceof CryptoRequestSupplier) {
+            if (!this.outboxEnabled && this instanceof UserNotificationsPublisherCommand && response instanceof CryptoRequestSupplier) {
                 log.info("publishing {} User Notification to REDIS", this.name);
-                Executors.newSingleThreadExecutor().submit(() -> {
-                    ((UserNotificationsPublisherCommand)this).publishUserNotification((CryptoRequestSupplier)response);
+                this.publishingExecutor.execute(() -> {
+                    ((UserNotificationsPublisherCommand)this).publishUserNotification((CryptoRequestSupplier)response, payload, this.notificationFanOut);
                 });
             }
 
@@ -102,7 +149,33 @@ public abstract class AbstractCommand<T extends AccessControl, R> {
                         .message(String.format("An error occurred while processing %s request", this.name))
                         .build();
             }
+        } finally {
+            if (unitOfWorkOwner) UnitOfWork.end();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<OutboxEvent> renderOutbox(CryptoRequestSupplier response) {
+        if (!this.outboxEnabled || Objects.isNull(response.getCryptoRequest())) return Collections.emptyList();
+        CryptoRequestPayload payload = new CryptoRequestPayload(mapper, response.getCryptoRequest(), this.name);
+        long createdOn = System.currentTimeMillis();
+        Queue<OutboxEvent> events = new ConcurrentLinkedQueue<>();
+        EventSink sink = (topic, message) -> events.add(OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .topic(topic)
+                .payload(message)
+                .createdOn(createdOn)
+                .build());
+        if (this instanceof UpdatesPublisherCommand) {
+            ((UpdatesPublisherCommand<CryptoRequestSupplier>) this).publishUpdates(response, payload, this.updatesFormat, sink);
+        }
+        if (this instanceof TTLPublisherCommand) {
+            ((TTLPublisherCommand<CryptoRequestSupplier>) this).publishTTL(response, sink);
+        }
+        if (this instanceof UserNotificationsPublisherCommand) {
+            ((UserNotificationsPublisherCommand<CryptoRequestSupplier>) this).publishUserNotification(response, payload, this.notificationFanOut, sink);
         }
+        return new ArrayList<>(events);
     }
 
     protected abstract String getResourceOwner(T request);
@@ -23,6 +23,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.offerChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusAndBargainExists;
 import static io.angularpay.crypto.helpers.Helper.getAllPartiesExceptInvestee;
 import static io.angularpay.crypto.models.UserNotificationType.BARGAIN_ACCEPTED;
@@ -66,12 +67,12 @@ public class AcceptBargainCommand extends AbstractCommand<AcceptBargainCommandRe
             }
         });
         found.getBargain().setAcceptedBargainReference(request.getBargainReference());
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .itemReference(request.getBargainReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(offerChangesOf(response, request.getBargainReference()))
+                .build());
     }
 
     @Override
@@ -84,11 +85,6 @@ public class AcceptBargainCommand extends AbstractCommand<AcceptBargainCommandRe
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -123,7 +119,7 @@ public class AcceptBargainCommand extends AbstractCommand<AcceptBargainCommandRe
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
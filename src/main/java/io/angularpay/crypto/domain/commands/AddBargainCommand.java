@@ -21,6 +21,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.offerChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusOrThrow;
 import static io.angularpay.crypto.helpers.Helper.getAllPartiesExceptActor;
 import static io.angularpay.crypto.models.UserNotificationType.INVESTOR_BARGAIN_ADDED;
@@ -77,12 +78,12 @@ public class AddBargainCommand extends AbstractCommand<AddBargainCommandRequest,
                 .status(OfferStatus.PENDING)
                 .build();
         Bargain bargain = found.getBargain();
-        CryptoRequest response = this.commandHelper.addItemToCollection(found, offer, bargain::getOffers, bargain::setOffers);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.addItemToCollection(found, offer, bargain::getOffers, bargain::setOffers, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(found.getReference())
                 .itemReference(offer.getReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(offerChangesOf(response, offer.getReference()))
+                .build());
     }
 
     @Override
@@ -95,11 +96,6 @@ public class AddBargainCommand extends AbstractCommand<AddBargainCommandRequest,
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public ResourceReferenceResponse map(GenericCommandResponse genericCommandResponse) {
         return new ResourceReferenceResponse(genericCommandResponse.getItemReference());
@@ -136,7 +132,7 @@ public class AddBargainCommand extends AbstractCommand<AddBargainCommandRequest,
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 
 import static io.angularpay.crypto.exceptions.ErrorCode.TARGET_AMOUNT_BOUNDS_ERROR;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.investorChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusOrThrow;
 import static io.angularpay.crypto.helpers.Helper.getAllPartiesExceptActor;
 import static io.angularpay.crypto.models.UserNotificationType.PEER_INVESTOR_ADDED;
@@ -62,14 +63,13 @@ public class AddInvestorCommand extends AbstractCommand<AddInvestorCommandReques
 
     @Override
     protected GenericCommandResponse handle(AddInvestorCommandRequest request) {
-        CryptoRequest found = getRequestByReferenceOrThrow(this.mongoAdapter, request.getRequestReference());
-        validRequestStatusOrThrow(found);
         Supplier<GenericCommandResponse> supplier = () -> addInvestor(request);
         return this.commandHelper.executeAcid(supplier);
     }
 
     private GenericCommandResponse addInvestor(AddInvestorCommandRequest request) throws OptimisticLockingFailureException {
         CryptoRequest found = getRequestByReferenceOrThrow(this.mongoAdapter, request.getRequestReference());
+        validRequestStatusOrThrow(found);
         BigDecimal targetAmount = new BigDecimal(found.getAmount().getValue());
         BigDecimal runningTotal = found.getInvestors().stream()
                 .filter(x -> !x.isDeleted())
@@ -89,12 +89,12 @@ public class AddInvestorCommand extends AbstractCommand<AddInvestorCommandReques
                             .status(InvestmentTransactionStatus.PENDING)
                             .build())
                     .build();
-            CryptoRequest response = this.commandHelper.addItemToCollection(found, investor, found::getInvestors, found::setInvestors);
-            return GenericCommandResponse.builder()
+            return this.commandHelper.addInvestor(found, investor, this::renderOutbox, response -> GenericCommandResponse.builder()
                     .requestReference(found.getReference())
                     .itemReference(investor.getReference())
                     .cryptoRequest(response)
-                    .build();
+                    .changes(investorChangesOf(response, investor.getReference()))
+                    .build());
         }
         throw CommandException.builder()
                 .status(HttpStatus.UNPROCESSABLE_ENTITY)
@@ -113,11 +113,6 @@ public class AddInvestorCommand extends AbstractCommand<AddInvestorCommandReques
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public ResourceReferenceResponse map(GenericCommandResponse genericCommandResponse) {
         return new ResourceReferenceResponse(genericCommandResponse.getItemReference());
@@ -180,7 +175,7 @@ public class AddInvestorCommand extends AbstractCommand<AddInvestorCommandReques
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
@@ -1,9 +1,9 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
+import io.angularpay.crypto.adapters.outbound.RequestStatusCounters;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.Investee;
 import io.angularpay.crypto.domain.Role;
@@ -32,13 +32,15 @@ public class CreateRequestCommand extends AbstractCommand<CreateRequestCommandRe
     private final DefaultConstraintValidator validator;
     private final CommandHelper commandHelper;
     private final RedisAdapter redisAdapter;
+    private final RequestStatusCounters requestStatusCounters;
 
-    public CreateRequestCommand(ObjectMapper mapper, MongoAdapter mongoAdapter, DefaultConstraintValidator validator, CommandHelper commandHelper, RedisAdapter redisAdapter) {
+    public CreateRequestCommand(ObjectMapper mapper, MongoAdapter mongoAdapter, DefaultConstraintValidator validator, CommandHelper commandHelper, RedisAdapter redisAdapter, RequestStatusCounters requestStatusCounters) {
         super("CreateRequestCommand", mapper);
         this.mongoAdapter = mongoAdapter;
         this.validator = validator;
         this.commandHelper = commandHelper;
         this.redisAdapter = redisAdapter;
+        this.requestStatusCounters = requestStatusCounters;
     }
 
     @Override
@@ -56,11 +58,12 @@ public class CreateRequestCommand extends AbstractCommand<CreateRequestCommandRe
                         .userReference(request.getAuthenticatedUser().getUserReference())
                         .build())
                 .build();
-        CryptoRequest response = this.mongoAdapter.createRequest(withOtherDetails);
-        return GenericCommandResponse.builder()
-                .requestReference(response.getReference())
-                .cryptoRequest(response)
-                .build();
+        GenericCommandResponse response = this.commandHelper.createRequest(withOtherDetails, this::renderOutbox, created -> GenericCommandResponse.builder()
+                .requestReference(created.getReference())
+                .cryptoRequest(created)
+                .build());
+        this.requestStatusCounters.onCreated(response.getCryptoRequest().getStatus());
+        return response;
     }
 
     @Override
@@ -73,11 +76,6 @@ public class CreateRequestCommand extends AbstractCommand<CreateRequestCommandRe
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public ResourceReferenceResponse map(GenericCommandResponse genericCommandResponse) {
         return new ResourceReferenceResponse(genericCommandResponse.getRequestReference());
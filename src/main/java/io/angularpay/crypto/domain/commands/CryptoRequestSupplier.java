@@ -2,6 +2,12 @@ package io.angularpay.crypto.domain.commands;
 
 import io.angularpay.crypto.domain.CryptoRequest;
 
+import java.util.Map;
+
 public interface CryptoRequestSupplier {
     CryptoRequest getCryptoRequest();
+
+    default Map<String, Object> getChanges() {
+        return null;
+    }
 }
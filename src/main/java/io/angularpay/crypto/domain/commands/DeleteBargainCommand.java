@@ -1,6 +1,5 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
@@ -20,6 +19,7 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.offerChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusAndBargainExists;
 
 
@@ -64,11 +64,11 @@ public class DeleteBargainCommand extends AbstractCommand<DeleteBargainCommandRe
         if (request.getBargainReference().equalsIgnoreCase(found.getBargain().getAcceptedBargainReference())) {
             found.getBargain().setAcceptedBargainReference(null);
         }
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(offerChangesOf(response, request.getBargainReference()))
+                .build());
     }
 
     @Override
@@ -81,11 +81,6 @@ public class DeleteBargainCommand extends AbstractCommand<DeleteBargainCommandRe
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -0,0 +1,49 @@
+package io.angularpay.crypto.domain.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.adapters.outbound.MongoAdapter;
+import io.angularpay.crypto.domain.Role;
+import io.angularpay.crypto.exceptions.ErrorObject;
+import io.angularpay.crypto.models.GetStatisticsCommandRequest;
+import io.angularpay.crypto.models.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class GetIndexStatisticsCommand extends AbstractCommand<GetStatisticsCommandRequest, List<Statistics>> {
+
+    private final MongoAdapter mongoAdapter;
+
+    public GetIndexStatisticsCommand(ObjectMapper mapper, MongoAdapter mongoAdapter) {
+        super("GetIndexStatisticsCommand", mapper);
+        this.mongoAdapter = mongoAdapter;
+    }
+
+    @Override
+    protected String getResourceOwner(GetStatisticsCommandRequest request) {
+        return "";
+    }
+
+    @Override
+    protected List<Statistics> handle(GetStatisticsCommandRequest request) {
+        return this.mongoAdapter.getIndexUsage().entrySet().stream()
+                .map(x -> Statistics.builder()
+                        .name(x.getKey())
+                        .value(String.valueOf(x.getValue()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected List<ErrorObject> validate(GetStatisticsCommandRequest request) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected List<Role> permittedRoles() {
+        return Collections.singletonList(Role.ROLE_PLATFORM_ADMIN);
+    }
+}
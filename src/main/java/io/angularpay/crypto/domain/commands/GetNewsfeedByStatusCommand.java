@@ -5,17 +5,25 @@ import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.Role;
 import io.angularpay.crypto.exceptions.ErrorObject;
+import io.angularpay.crypto.models.CursorSlice;
 import io.angularpay.crypto.models.GenericGetByStatusCommandRequest;
+import io.angularpay.crypto.models.Paging;
 import io.angularpay.crypto.validation.DefaultConstraintValidator;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+
+import static io.angularpay.crypto.helpers.CommandHelper.decodeCursorOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.toCursorSlice;
 
 @Service
-public class GetNewsfeedByStatusCommand extends AbstractCommand<GenericGetByStatusCommandRequest, List<CryptoRequest>> {
+public class GetNewsfeedByStatusCommand extends AbstractCommand<GenericGetByStatusCommandRequest, CursorSlice<CryptoRequest>> {
 
     private final MongoAdapter mongoAdapter;
     private final DefaultConstraintValidator validator;
@@ -35,9 +43,16 @@ public class GetNewsfeedByStatusCommand extends AbstractCommand<GenericGetByStat
     }
 
     @Override
-    protected List<CryptoRequest> handle(GenericGetByStatusCommandRequest request) {
-        Pageable pageable = PageRequest.of(request.getPaging().getIndex(), request.getPaging().getSize());
-        return this.mongoAdapter.findRequestsByStatus(pageable, request.getStatuses()).getContent();
+    protected CursorSlice<CryptoRequest> handle(GenericGetByStatusCommandRequest request) {
+        Paging paging = request.getPaging();
+        Slice<CryptoRequest> slice;
+        if (StringUtils.hasText(paging.getCursor())) {
+            slice = this.mongoAdapter.findRequestsByStatus(decodeCursorOrThrow(paging.getCursor()), paging.getSize(), request.getStatuses());
+        } else {
+            Pageable pageable = PageRequest.of(paging.getIndex(), paging.getSize());
+            slice = this.mongoAdapter.findRequestsByStatus(pageable, request.getStatuses());
+        }
+        return toCursorSlice(slice, Function.identity());
     }
 
     @Override
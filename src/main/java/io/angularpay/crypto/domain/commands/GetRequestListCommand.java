@@ -5,17 +5,25 @@ import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.Role;
 import io.angularpay.crypto.exceptions.ErrorObject;
+import io.angularpay.crypto.models.CursorSlice;
 import io.angularpay.crypto.models.GenericGetRequestListCommandRequest;
+import io.angularpay.crypto.models.Paging;
 import io.angularpay.crypto.validation.DefaultConstraintValidator;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+
+import static io.angularpay.crypto.helpers.CommandHelper.decodeCursorOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.toCursorSlice;
 
 @Service
-public class GetRequestListCommand extends AbstractCommand<GenericGetRequestListCommandRequest, List<CryptoRequest>> {
+public class GetRequestListCommand extends AbstractCommand<GenericGetRequestListCommandRequest, CursorSlice<CryptoRequest>> {
 
     private final MongoAdapter mongoAdapter;
     private final DefaultConstraintValidator validator;
@@ -35,9 +43,20 @@ public class GetRequestListCommand extends AbstractCommand<GenericGetRequestList
     }
 
     @Override
-    protected List<CryptoRequest> handle(GenericGetRequestListCommandRequest request) {
-        Pageable pageable = PageRequest.of(request.getPaging().getIndex(), request.getPaging().getSize());
-        return this.mongoAdapter.listRequests(pageable).getContent();
+    protected CursorSlice<CryptoRequest> handle(GenericGetRequestListCommandRequest request) {
+        Paging paging = request.getPaging();
+        Slice<CryptoRequest> slice;
+        if (StringUtils.hasText(paging.getCursor())) {
+            slice = this.mongoAdapter.listRequests(decodeCursorOrThrow(paging.getCursor()), paging.getSize());
+        } else {
+            Pageable pageable = PageRequest.of(paging.getIndex(), paging.getSize());
+            slice = this.mongoAdapter.listRequests(pageable);
+        }
+        CursorSlice<CryptoRequest> cursorSlice = toCursorSlice(slice, Function.identity());
+        if (paging.isIncludeTotal()) {
+            cursorSlice.setTotal(this.mongoAdapter.getApproximateTotalCount());
+        }
+        return cursorSlice;
     }
 
     @Override
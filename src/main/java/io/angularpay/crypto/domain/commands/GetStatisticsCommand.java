@@ -1,7 +1,7 @@
 package io.angularpay.crypto.domain.commands;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.angularpay.crypto.adapters.outbound.MongoAdapter;
+import io.angularpay.crypto.adapters.outbound.RequestStatusCounters;
 import io.angularpay.crypto.domain.RequestStatus;
 import io.angularpay.crypto.domain.Role;
 import io.angularpay.crypto.exceptions.ErrorObject;
@@ -9,19 +9,16 @@ import io.angularpay.crypto.models.GetStatisticsCommandRequest;
 import io.angularpay.crypto.models.Statistics;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class GetStatisticsCommand extends AbstractCommand<GetStatisticsCommandRequest, List<Statistics>> {
 
-    private final MongoAdapter mongoAdapter;
+    private final RequestStatusCounters requestStatusCounters;
 
-    public GetStatisticsCommand(ObjectMapper mapper, MongoAdapter mongoAdapter) {
+    public GetStatisticsCommand(ObjectMapper mapper, RequestStatusCounters requestStatusCounters) {
         super("GetStatisticsCommand", mapper);
-        this.mongoAdapter = mongoAdapter;
+        this.requestStatusCounters = requestStatusCounters;
     }
 
     @Override
@@ -33,34 +30,32 @@ public class GetStatisticsCommand extends AbstractCommand<GetStatisticsCommandRe
     protected List<Statistics> handle(GetStatisticsCommandRequest request) {
         List<Statistics> statistics = new ArrayList<>();
 
-        long total = this.mongoAdapter.getTotalCount();
+        EnumMap<RequestStatus, Long> counts = this.requestStatusCounters.getCountsByStatus();
+
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
         statistics.add(Statistics.builder()
                 .name("Total")
                 .value(String.valueOf(total))
                 .build());
 
-        long active = this.mongoAdapter.getCountByRequestStatus(RequestStatus.ACTIVE);
         statistics.add(Statistics.builder()
                 .name("Active")
-                .value(String.valueOf(active))
+                .value(String.valueOf(counts.getOrDefault(RequestStatus.ACTIVE, 0L)))
                 .build());
 
-        long inactive = this.mongoAdapter.getCountByRequestStatus(RequestStatus.INACTIVE);
         statistics.add(Statistics.builder()
                 .name("Inactive")
-                .value(String.valueOf(inactive))
+                .value(String.valueOf(counts.getOrDefault(RequestStatus.INACTIVE, 0L)))
                 .build());
 
-        long completed = this.mongoAdapter.getCountByRequestStatus(RequestStatus.COMPLETED);
         statistics.add(Statistics.builder()
                 .name("Completed")
-                .value(String.valueOf(completed))
+                .value(String.valueOf(counts.getOrDefault(RequestStatus.COMPLETED, 0L)))
                 .build());
 
-        long cancelled = this.mongoAdapter.getCountByRequestStatus(RequestStatus.CANCELLED);
         statistics.add(Statistics.builder()
                 .name("Cancelled")
-                .value(String.valueOf(cancelled))
+                .value(String.valueOf(counts.getOrDefault(RequestStatus.CANCELLED, 0L)))
                 .build());
 
         return statistics;
@@ -12,6 +12,7 @@ import io.angularpay.crypto.validation.DefaultConstraintValidator;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -38,18 +39,17 @@ public class GetUserInvestmentsCommand extends AbstractCommand<GetUserInvestment
     protected List<UserInvestmentModel> handle(GetUserInvestmentsCommandRequest request) {
         Pageable pageable = PageRequest.of(request.getPaging().getIndex(), request.getPaging().getSize());
         List<UserInvestmentModel> investmentRequests = new ArrayList<>();
-        List<CryptoRequest> response = this.mongoAdapter.listRequests(pageable).getContent();
+        List<CryptoRequest> response = this.mongoAdapter.findInvestmentsByInvestorUserReference(
+                pageable, request.getAuthenticatedUser().getUserReference());
         for (CryptoRequest cryptoRequest : response) {
-            List<Investor> investors = cryptoRequest.getInvestors();
-            for (Investor investor : investors) {
-                if (request.getAuthenticatedUser().getUserReference().equalsIgnoreCase(investor.getUserReference())) {
-                    investmentRequests.add(UserInvestmentModel.builder()
-                            .requestReference(cryptoRequest.getReference())
-                            .investmentReference(investor.getReference())
-                            .userReference(investor.getUserReference())
-                            .requestCreatedOn(investor.getCreatedOn())
-                            .build());
-                }
+            if (CollectionUtils.isEmpty(cryptoRequest.getInvestors())) continue;
+            for (Investor investor : cryptoRequest.getInvestors()) {
+                investmentRequests.add(UserInvestmentModel.builder()
+                        .requestReference(cryptoRequest.getReference())
+                        .investmentReference(investor.getReference())
+                        .userReference(investor.getUserReference())
+                        .requestCreatedOn(investor.getCreatedOn())
+                        .build());
             }
         }
         return investmentRequests;
@@ -4,19 +4,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.domain.Role;
 import io.angularpay.crypto.exceptions.ErrorObject;
+import io.angularpay.crypto.models.CursorSlice;
 import io.angularpay.crypto.models.GetUserRequestsCommandRequest;
+import io.angularpay.crypto.models.Paging;
+import io.angularpay.crypto.models.RequestCursor;
 import io.angularpay.crypto.models.UserRequestModel;
+import io.angularpay.crypto.models.UserRequestSummary;
 import io.angularpay.crypto.validation.DefaultConstraintValidator;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static io.angularpay.crypto.helpers.CommandHelper.decodeCursorOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.toCursorSlice;
 
 @Service
-public class GetUserRequestsCommand extends AbstractCommand<GetUserRequestsCommandRequest, List<UserRequestModel>> {
+public class GetUserRequestsCommand extends AbstractCommand<GetUserRequestsCommandRequest, CursorSlice<UserRequestModel>> {
 
     private final MongoAdapter mongoAdapter;
     private final DefaultConstraintValidator validator;
@@ -33,15 +41,21 @@ public class GetUserRequestsCommand extends AbstractCommand<GetUserRequestsComma
     }
 
     @Override
-    protected List<UserRequestModel> handle(GetUserRequestsCommandRequest request) {
-        Pageable pageable = PageRequest.of(request.getPaging().getIndex(), request.getPaging().getSize());
-        return this.mongoAdapter.findByInvesteeUserReference(pageable, request.getAuthenticatedUser().getUserReference())
-                .getContent().stream()
-                .map(x -> UserRequestModel.builder()
-                        .requestReference(x.getReference())
-                        .userReference(x.getInvestee().getUserReference())
-                        .requestCreatedOn(x.getCreatedOn())
-                        .build()).collect(Collectors.toList());
+    protected CursorSlice<UserRequestModel> handle(GetUserRequestsCommandRequest request) {
+        Paging paging = request.getPaging();
+        String userReference = request.getAuthenticatedUser().getUserReference();
+        Slice<UserRequestSummary> slice;
+        if (StringUtils.hasText(paging.getCursor())) {
+            slice = this.mongoAdapter.findByInvesteeUserReference(decodeCursorOrThrow(paging.getCursor()), paging.getSize(), userReference);
+        } else {
+            Pageable pageable = PageRequest.of(paging.getIndex(), paging.getSize());
+            slice = this.mongoAdapter.findByInvesteeUserReference(pageable, userReference);
+        }
+        return toCursorSlice(slice, x -> new RequestCursor(x.getCreatedOn(), x.getId()), x -> UserRequestModel.builder()
+                .requestReference(x.getReference())
+                .userReference(x.getInvestee().getUserReference())
+                .requestCreatedOn(x.getCreatedOn())
+                .build());
     }
 
     @Override
@@ -1,6 +1,5 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
@@ -29,6 +28,7 @@ import java.util.function.Supplier;
 import static io.angularpay.crypto.exceptions.ErrorCode.REQUEST_COMPLETED_ERROR;
 import static io.angularpay.crypto.exceptions.ErrorCode.REQUEST_REMOVED_ERROR;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.investorChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusAndInvestmentExists;
 
 @Service
@@ -92,12 +92,12 @@ public class MakePaymentCommand extends AbstractCommand<MakePaymentCommandReques
                 x.getInvestmentStatus().setStatus(InvestmentTransactionStatus.SUCCESSFUL);
             }
         });
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .itemReference(transactionReference)
                 .cryptoRequest(response)
-                .build();
+                .changes(investorChangesOf(response, request.getInvestmentReference()))
+                .build());
     }
 
     @Override
@@ -110,11 +110,6 @@ public class MakePaymentCommand extends AbstractCommand<MakePaymentCommandReques
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public ResourceReferenceResponse map(GenericCommandResponse genericCommandResponse) {
         return new ResourceReferenceResponse(genericCommandResponse.getItemReference());
@@ -4,17 +4,25 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.exceptions.CommandException;
 import io.angularpay.crypto.models.platform.*;
-import io.angularpay.crypto.ports.outbound.OutboundMessagingPort;
+import io.angularpay.crypto.ports.outbound.PlatformConfigurationsStorePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.angularpay.crypto.exceptions.ErrorCode.INVALID_MESSAGE_ERROR;
-import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.HASH;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.DISK;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.TOPIC;
 
 @Slf4j
 @Service
@@ -22,31 +30,51 @@ public class PlatformConfigurationsConverterCommand {
 
     private final PlatformConfigurations platformConfigurations;
     private final ObjectMapper mapper;
+    private final PlatformConfigurationsStorePort platformConfigurationsStorePort;
+    private final Set<PlatformConfigurationIdentifier> applied = ConcurrentHashMap.newKeySet();
+    private final Map<PlatformConfigurationIdentifier, String> contentHashes = new ConcurrentHashMap<>();
+    private final Map<PlatformConfigurationIdentifier, Counter> appliedCounters = new EnumMap<>(PlatformConfigurationIdentifier.class);
+    private final Map<PlatformConfigurationIdentifier, Counter> skippedCounters = new EnumMap<>(PlatformConfigurationIdentifier.class);
+    private final Map<PlatformConfigurationIdentifier, Object> locks = new EnumMap<>(PlatformConfigurationIdentifier.class);
 
     public PlatformConfigurationsConverterCommand(
             PlatformConfigurations platformConfigurations,
             ObjectMapper mapper,
-            OutboundMessagingPort outboundMessagingPort) {
+            PlatformConfigurationsStorePort platformConfigurationsStorePort,
+            MeterRegistry meterRegistry) {
         this.platformConfigurations = platformConfigurations;
         this.mapper = mapper;
+        this.platformConfigurationsStorePort = platformConfigurationsStorePort;
+        Arrays.stream(PlatformConfigurationIdentifier.values()).forEach(identifier -> {
+            this.appliedCounters.put(identifier, updatesCounter(meterRegistry, identifier, "applied"));
+            this.skippedCounters.put(identifier, updatesCounter(meterRegistry, identifier, "skipped"));
+            this.locks.put(identifier, new Object());
+        });
+    }
 
-        log.info("reading platform configurations from message hash...");
-        Map<String, String> configurations = outboundMessagingPort.getPlatformConfigurations(
-                PlatformConfigurationIdentifier.getHashName()
-        );
-        if (CollectionUtils.isEmpty(configurations)) {
-            log.info("platform configurations message hash is empty");
-        } else {
-            log.info("read {} items from platform configurations message hash", configurations.size());
-            configurations.forEach((key, value) -> {
-                PlatformConfigurationIdentifier.fromHashField(key).ifPresent(identifier -> {
-                    this.execute(value, identifier, HASH);
-                });
-            });
-        }
+    public boolean isApplied(PlatformConfigurationIdentifier identifier) {
+        return this.applied.contains(identifier);
     }
 
     public void execute(String message, PlatformConfigurationIdentifier identifier, PlatformConfigurationSource source) {
+        // the hydrator and the topic dispatcher run on different threads, the source check and the apply must not interleave
+        synchronized (this.locks.get(identifier)) {
+            apply(message, identifier, source);
+        }
+    }
+
+    private void apply(String message, PlatformConfigurationIdentifier identifier, PlatformConfigurationSource source) {
+        if (source != TOPIC && this.applied.contains(identifier)) {
+            log.info("skipping platform configurations {} value from {}, a newer value was already applied", identifier.name(), source.name());
+            return;
+        }
+        String contentHash = DigestUtils.md5DigestAsHex(message.getBytes(StandardCharsets.UTF_8));
+        if (contentHash.equals(this.contentHashes.get(identifier))) {
+            log.debug("platform configurations {} value from {} is unchanged", identifier.name(), source.name());
+            if (source != DISK) this.applied.add(identifier);
+            this.skippedCounters.get(identifier).increment();
+            return;
+        }
         log.info("updating global platform configurations {} values from {} -> {}", identifier.name(), source.name(), message);
         try {
             switch (identifier) {
@@ -95,6 +123,12 @@ public class PlatformConfigurationsConverterCommand {
                     this.platformConfigurations.setPlatformTTLConfiguration(platformTTLConfiguration);
                     break;
             }
+            this.contentHashes.put(identifier, contentHash);
+            this.appliedCounters.get(identifier).increment();
+            if (source != DISK) {
+                this.applied.add(identifier);
+                this.platformConfigurationsStorePort.save(identifier, message);
+            }
         } catch (Exception exception) {
             log.error("An error occurred while processing platform configurations {} value from {}", identifier.name(), source.name(), exception);
             throw new RuntimeException(CommandException.builder()
@@ -105,4 +139,11 @@ public class PlatformConfigurationsConverterCommand {
                     .build());
         }
     }
+
+    private static Counter updatesCounter(MeterRegistry meterRegistry, PlatformConfigurationIdentifier identifier, String outcome) {
+        return Counter.builder("crypto.platform.configurations.updates")
+                .tag("identifier", identifier.getHashField())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
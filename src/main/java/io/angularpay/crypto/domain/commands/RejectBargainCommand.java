@@ -23,6 +23,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.offerChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusAndBargainExists;
 import static io.angularpay.crypto.helpers.Helper.getAllPartiesExceptInvestee;
 import static io.angularpay.crypto.models.UserNotificationType.BARGAIN_REJECTED;
@@ -68,12 +69,12 @@ public class RejectBargainCommand extends AbstractCommand<RejectBargainCommandRe
         if (request.getBargainReference().equalsIgnoreCase(found.getBargain().getAcceptedBargainReference())) {
             found.getBargain().setAcceptedBargainReference(null);
         }
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .itemReference(request.getBargainReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(offerChangesOf(response, request.getBargainReference()))
+                .build());
     }
 
     @Override
@@ -86,11 +87,6 @@ public class RejectBargainCommand extends AbstractCommand<RejectBargainCommandRe
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -125,7 +121,7 @@ public class RejectBargainCommand extends AbstractCommand<RejectBargainCommandRe
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
@@ -76,12 +76,12 @@ public class RemoveInvestorCommand extends AbstractCommand<RemoveInvestorCommand
                 x.setDeletedBy(request.getDeletedBy());
             }
         });
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .cryptoRequest(response)
+                .changes(investorChangesOf(response, request.getInvestmentReference()))
                 .itemReference(request.getInvestmentReference())
-                .build();
+                .build());
     }
 
     @Override
@@ -94,11 +94,6 @@ public class RemoveInvestorCommand extends AbstractCommand<RemoveInvestorCommand
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -140,7 +135,7 @@ public class RemoveInvestorCommand extends AbstractCommand<RemoveInvestorCommand
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
@@ -3,9 +3,12 @@ package io.angularpay.crypto.domain.commands;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
 import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.ports.outbound.EventSink;
 
 import java.util.Objects;
 
+import static io.angularpay.crypto.common.Constants.TTL_TOPIC;
+
 public interface TTLPublisherCommand<T extends CryptoRequestSupplier> {
 
     RedisAdapter getRedisAdapter();
@@ -13,12 +16,15 @@ public interface TTLPublisherCommand<T extends CryptoRequestSupplier> {
     String convertToTTLMessage(CryptoRequest cryptoRequest, T t) throws JsonProcessingException;
 
     default void publishTTL(T t) {
+        this.publishTTL(t, this.getRedisAdapter());
+    }
+
+    default void publishTTL(T t, EventSink sink) {
         CryptoRequest cryptoRequest = t.getCryptoRequest();
-        RedisAdapter redisAdapter = this.getRedisAdapter();
-        if (Objects.nonNull(cryptoRequest) && Objects.nonNull(redisAdapter)) {
+        if (Objects.nonNull(cryptoRequest) && Objects.nonNull(sink)) {
             try {
                 String message = this.convertToTTLMessage(cryptoRequest, t);
-                redisAdapter.publishTTL(message);
+                sink.publish(TTL_TOPIC, message);
             } catch (JsonProcessingException exception) {
                 throw new RuntimeException(exception);
             }
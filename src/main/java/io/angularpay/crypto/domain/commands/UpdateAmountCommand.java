@@ -1,6 +1,5 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
@@ -20,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
+import static io.angularpay.crypto.helpers.CommandHelper.changesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusOrThrow;
 
@@ -60,11 +60,11 @@ public class UpdateAmountCommand extends AbstractCommand<UpdateAmountCommandRequ
 
     private GenericCommandResponse updateAmount(UpdateAmountCommandRequest request) throws OptimisticLockingFailureException {
         CryptoRequest found = getRequestByReferenceOrThrow(this.mongoAdapter, request.getRequestReference());
-        CryptoRequest response = this.commandHelper.updateProperty(found, request::getAmount, found::setAmount);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateProperty(found, request::getAmount, found::setAmount, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(changesOf(response, "amount", response.getAmount()))
+                .build());
     }
 
     @Override
@@ -77,11 +77,6 @@ public class UpdateAmountCommand extends AbstractCommand<UpdateAmountCommandRequ
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -1,6 +1,5 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
@@ -19,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
+import static io.angularpay.crypto.helpers.CommandHelper.changesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusOrThrow;
 
@@ -58,11 +58,11 @@ public class UpdateExchangeRateCommand extends AbstractCommand<UpdateExchangeRat
 
     private GenericCommandResponse updateExchangeRate(UpdateExchangeRateCommandRequest request) throws OptimisticLockingFailureException {
         CryptoRequest found = getRequestByReferenceOrThrow(this.mongoAdapter, request.getRequestReference());
-        CryptoRequest response = this.commandHelper.updateProperty(found, request::getExchangeRate, found::setExchangeRate);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateProperty(found, request::getExchangeRate, found::setExchangeRate, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(changesOf(response, "exchange_rate", response.getExchangeRate()))
+                .build());
     }
 
     @Override
@@ -75,11 +75,6 @@ public class UpdateExchangeRateCommand extends AbstractCommand<UpdateExchangeRat
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
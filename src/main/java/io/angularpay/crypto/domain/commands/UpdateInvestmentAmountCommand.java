@@ -1,6 +1,5 @@
 package io.angularpay.crypto.domain.commands;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
@@ -24,6 +23,7 @@ import java.util.function.Supplier;
 
 import static io.angularpay.crypto.exceptions.ErrorCode.REQUEST_REMOVED_ERROR;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
+import static io.angularpay.crypto.helpers.CommandHelper.investorChangesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.validRequestStatusAndInvestmentExists;
 
 @Service
@@ -76,11 +76,11 @@ public class UpdateInvestmentAmountCommand extends AbstractCommand<UpdateInvestm
                 x.setComment(request.getUpdateInvestmentApiModel().getComment());
             }
         });
-        CryptoRequest response = this.mongoAdapter.updateRequest(found);
-        return GenericCommandResponse.builder()
+        return this.commandHelper.updateRequest(found, this::renderOutbox, response -> GenericCommandResponse.builder()
                 .requestReference(response.getReference())
                 .cryptoRequest(response)
-                .build();
+                .changes(investorChangesOf(response, request.getInvestmentReference()))
+                .build());
     }
 
     @Override
@@ -93,11 +93,6 @@ public class UpdateInvestmentAmountCommand extends AbstractCommand<UpdateInvestm
         return Collections.emptyList();
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.angularpay.crypto.adapters.outbound.MongoAdapter;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
+import io.angularpay.crypto.adapters.outbound.RequestStatusCounters;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.RequestStatus;
 import io.angularpay.crypto.domain.Role;
@@ -25,6 +26,7 @@ import java.util.function.Supplier;
 
 import static io.angularpay.crypto.exceptions.ErrorCode.REQUEST_CANCELLED_ERROR;
 import static io.angularpay.crypto.exceptions.ErrorCode.REQUEST_COMPLETED_ERROR;
+import static io.angularpay.crypto.helpers.CommandHelper.changesOf;
 import static io.angularpay.crypto.helpers.CommandHelper.getRequestByReferenceOrThrow;
 import static io.angularpay.crypto.helpers.Helper.getAllParties;
 import static io.angularpay.crypto.models.UserNotificationType.*;
@@ -38,18 +40,21 @@ public class UpdateRequestStatusCommand extends AbstractCommand<UpdateRequestSta
     private final DefaultConstraintValidator validator;
     private final CommandHelper commandHelper;
     private final RedisAdapter redisAdapter;
+    private final RequestStatusCounters requestStatusCounters;
 
     public UpdateRequestStatusCommand(
             ObjectMapper mapper,
             MongoAdapter mongoAdapter,
             DefaultConstraintValidator validator,
             CommandHelper commandHelper,
-            RedisAdapter redisAdapter) {
+            RedisAdapter redisAdapter,
+            RequestStatusCounters requestStatusCounters) {
         super("UpdateRequestStatusCommand", mapper);
         this.mongoAdapter = mongoAdapter;
         this.validator = validator;
         this.commandHelper = commandHelper;
         this.redisAdapter = redisAdapter;
+        this.requestStatusCounters = requestStatusCounters;
     }
 
     @Override
@@ -80,11 +85,14 @@ public class UpdateRequestStatusCommand extends AbstractCommand<UpdateRequestSta
 
     private GenericCommandResponse updateRequestStatus(UpdateRequestStatusCommandRequest request) throws OptimisticLockingFailureException {
         CryptoRequest found = getRequestByReferenceOrThrow(this.mongoAdapter, request.getRequestReference());
-        CryptoRequest response = this.commandHelper.updateProperty(found, request::getStatus, found::setStatus);
-        return GenericCommandResponse.builder()
-                .requestReference(response.getReference())
-                .cryptoRequest(response)
-                .build();
+        RequestStatus previous = found.getStatus();
+        GenericCommandResponse response = this.commandHelper.updateProperty(found, request::getStatus, found::setStatus, this::renderOutbox, updated -> GenericCommandResponse.builder()
+                .requestReference(updated.getReference())
+                .cryptoRequest(updated)
+                .changes(changesOf(updated, "status", updated.getStatus()))
+                .build());
+        this.requestStatusCounters.onStatusChanged(previous, response.getCryptoRequest().getStatus());
+        return response;
     }
 
     @Override
@@ -97,11 +105,6 @@ public class UpdateRequestStatusCommand extends AbstractCommand<UpdateRequestSta
         return Arrays.asList(Role.ROLE_KYC_ADMIN, Role.ROLE_PLATFORM_ADMIN);
     }
 
-    @Override
-    public String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException {
-        return this.commandHelper.toJsonString(cryptoRequest);
-    }
-
     @Override
     public RedisAdapter getRedisAdapter() {
         return this.redisAdapter;
@@ -159,7 +162,7 @@ public class UpdateRequestStatusCommand extends AbstractCommand<UpdateRequestSta
                 .build();
         String payload = mapper.writeValueAsString(userNotificationInvestmentPayload);
 
-        String attributes = mapper.writeValueAsString(parameters.getRequest());
+        String attributes = parameters.getRequestJson();
 
         UserNotification userNotification = UserNotification.builder()
                 .reference(UUID.randomUUID().toString())
@@ -2,23 +2,34 @@ package io.angularpay.crypto.domain.commands;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
+import io.angularpay.crypto.configurations.AngularPayConfiguration.UpdatesFormat;
 import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.helpers.CryptoRequestPayload;
+import io.angularpay.crypto.ports.outbound.EventSink;
 
 import java.util.Objects;
 
+import static io.angularpay.crypto.common.Constants.UPDATES_DELTA_TOPIC;
+import static io.angularpay.crypto.common.Constants.UPDATES_TOPIC;
+
 public interface UpdatesPublisherCommand<T extends CryptoRequestSupplier> {
 
     RedisAdapter getRedisAdapter();
 
-    String convertToUpdatesMessage(CryptoRequest cryptoRequest) throws JsonProcessingException;
+    default void publishUpdates(T t, CryptoRequestPayload payload, UpdatesFormat format) {
+        this.publishUpdates(t, payload, format, this.getRedisAdapter());
+    }
 
-    default void publishUpdates(T t) {
+    default void publishUpdates(T t, CryptoRequestPayload payload, UpdatesFormat format, EventSink sink) {
         CryptoRequest cryptoRequest = t.getCryptoRequest();
-        RedisAdapter redisAdapter = this.getRedisAdapter();
-        if (Objects.nonNull(cryptoRequest) && Objects.nonNull(redisAdapter)) {
+        if (Objects.nonNull(cryptoRequest) && Objects.nonNull(sink)) {
             try {
-                String message = this.convertToUpdatesMessage(cryptoRequest);
-                redisAdapter.publishUpdates(message);
+                if (format.includesSnapshot()) {
+                    sink.publish(UPDATES_TOPIC, payload.getJson());
+                }
+                if (format.includesDelta()) {
+                    sink.publish(UPDATES_DELTA_TOPIC, payload.getDeltaJson(t.getChanges()));
+                }
             } catch (JsonProcessingException exception) {
                 throw new RuntimeException(exception);
             }
@@ -3,13 +3,18 @@ package io.angularpay.crypto.domain.commands;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.angularpay.crypto.adapters.outbound.RedisAdapter;
 import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.helpers.CryptoRequestPayload;
+import io.angularpay.crypto.helpers.NotificationFanOut;
 import io.angularpay.crypto.models.UserNotificationBuilderParameters;
 import io.angularpay.crypto.models.UserNotificationType;
+import io.angularpay.crypto.ports.outbound.EventSink;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
 import java.util.Objects;
 
+import static io.angularpay.crypto.common.Constants.USER_NOTIFICATIONS_TOPIC;
+
 public interface UserNotificationsPublisherCommand<T extends CryptoRequestSupplier> {
 
     RedisAdapter getRedisAdapter();
@@ -17,24 +22,28 @@ public interface UserNotificationsPublisherCommand<T extends CryptoRequestSuppli
     List<String> getAudience(T commandResponse);
     String convertToUserNotificationsMessage(UserNotificationBuilderParameters<T, CryptoRequest> parameters) throws JsonProcessingException;
 
-    default void publishUserNotification(T commandResponse) {
+    default void publishUserNotification(T commandResponse, CryptoRequestPayload payload, NotificationFanOut fanOut) {
+        this.publishUserNotification(commandResponse, payload, fanOut, this.getRedisAdapter());
+    }
+
+    default void publishUserNotification(T commandResponse, CryptoRequestPayload payload, NotificationFanOut fanOut, EventSink sink) {
         CryptoRequest request = commandResponse.getCryptoRequest();
-        RedisAdapter redisAdapter = this.getRedisAdapter();
         UserNotificationType type = this.getUserNotificationType(commandResponse);
         List<String> audience = this.getAudience(commandResponse);
 
-        if (Objects.nonNull(request) && Objects.nonNull(redisAdapter)
+        if (Objects.nonNull(request) && Objects.nonNull(sink)
         && Objects.nonNull(type) && !CollectionUtils.isEmpty(audience)) {
-            audience.stream().parallel().forEach(userReference-> {
+            fanOut.fanOut(audience, userReference -> {
                 try {
                     UserNotificationBuilderParameters<T, CryptoRequest> parameters = UserNotificationBuilderParameters.<T, CryptoRequest>builder()
                             .userReference(userReference)
                             .request(request)
+                            .requestJson(payload.getJson())
                             .commandResponse(commandResponse)
                             .type(type)
                             .build();
                     String message = this.convertToUserNotificationsMessage(parameters);
-                    redisAdapter.publishUserNotification(message);
+                    sink.publish(USER_NOTIFICATIONS_TOPIC, message);
                 } catch (JsonProcessingException exception) {
                     throw new RuntimeException(exception);
                 }
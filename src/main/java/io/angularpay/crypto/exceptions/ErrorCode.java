@@ -13,6 +13,7 @@ public enum ErrorCode {
     REQUEST_CANCELLED_ERROR("You cannot performed this action on a request that has already been cancelled"),
     TARGET_AMOUNT_BOUNDS_ERROR("The investment amount plus the running total exceeds the target amount"),
     REQUEST_NOT_FOUND("The requested resource was NOT found"),
+    INVALID_CURSOR_ERROR("The pagination cursor provided is invalid"),
     GENERIC_ERROR("Generic error occurred. See stacktrace for details"),
     SCHEDULER_SERVICE_ERROR("Unable to create scheduled task. Please check scheduler-service logs for details."),
     AUTHORIZATION_ERROR("You do NOT have adequate permission to access this resource"),
@@ -7,21 +7,32 @@ import io.angularpay.crypto.configurations.AngularPayConfiguration;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.Investor;
 import io.angularpay.crypto.domain.Offer;
+import io.angularpay.crypto.domain.OutboxEvent;
 import io.angularpay.crypto.domain.RequestStatus;
+import io.angularpay.crypto.domain.commands.CryptoRequestSupplier;
 import io.angularpay.crypto.exceptions.CommandException;
 import io.angularpay.crypto.exceptions.ErrorCode;
+import io.angularpay.crypto.models.CursorSlice;
 import io.angularpay.crypto.models.GenericCommandResponse;
+import io.angularpay.crypto.models.RequestCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static io.angularpay.crypto.domain.InvestmentTransactionStatus.SUCCESSFUL;
 import static io.angularpay.crypto.exceptions.ErrorCode.*;
@@ -30,6 +41,8 @@ import static io.angularpay.crypto.exceptions.ErrorCode.*;
 @RequiredArgsConstructor
 public class CommandHelper {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final MongoAdapter mongoAdapter;
     private final ObjectMapper mapper;
     private final AngularPayConfiguration configuration;
@@ -41,8 +54,11 @@ public class CommandHelper {
         //noinspection ConstantConditions
         do {
             try {
-                return supplier.get();
+                GenericCommandResponse response = supplier.get();
+                UnitOfWork.register(response.getCryptoRequest());
+                return response;
             } catch (OptimisticLockingFailureException exception) {
+                UnitOfWork.clear();
                 if (counter++ >= maxRetry) throw exception;
                 optimisticLockingFailureException = exception;
             }
@@ -52,7 +68,7 @@ public class CommandHelper {
     }
 
     public String getRequestOwner(String requestReference) {
-        CryptoRequest found = this.mongoAdapter.findRequestByReference(requestReference).orElseThrow(
+        CryptoRequest found = UnitOfWork.find(requestReference, this.mongoAdapter::findRequestByReference).orElseThrow(
                 () -> commandException(HttpStatus.NOT_FOUND, REQUEST_NOT_FOUND)
         );
         return found.getInvestee().getUserReference();
@@ -67,7 +83,7 @@ public class CommandHelper {
     }
 
     public String getInvestmentOwner(String requestReference, String investmentReference) {
-        CryptoRequest found = this.mongoAdapter.findRequestByReference(requestReference).orElseThrow(
+        CryptoRequest found = UnitOfWork.find(requestReference, this.mongoAdapter::findRequestByReference).orElseThrow(
                 () -> commandException(HttpStatus.NOT_FOUND, REQUEST_NOT_FOUND)
         );
         if (CollectionUtils.isEmpty(found.getInvestors())) return "";
@@ -79,7 +95,7 @@ public class CommandHelper {
     }
 
     public String getBargainOwner(String requestReference, String bargainReference) {
-        CryptoRequest found = this.mongoAdapter.findRequestByReference(requestReference).orElseThrow(
+        CryptoRequest found = UnitOfWork.find(requestReference, this.mongoAdapter::findRequestByReference).orElseThrow(
                 () -> commandException(HttpStatus.NOT_FOUND, REQUEST_NOT_FOUND)
         );
         if (Objects.isNull(found.getBargain()) || CollectionUtils.isEmpty(found.getBargain().getOffers())) return "";
@@ -90,17 +106,36 @@ public class CommandHelper {
                 .orElse("");
     }
 
-    public <T> CryptoRequest updateProperty(CryptoRequest cryptoRequest, Supplier<T> getter, Consumer<T> setter) {
+    public GenericCommandResponse createRequest(CryptoRequest cryptoRequest, Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
+        CryptoRequest created = this.mongoAdapter.createRequest(cryptoRequest, outboxOf(outbox, responseOf));
+        return responseOf.apply(created);
+    }
+
+    public GenericCommandResponse updateRequest(CryptoRequest cryptoRequest, Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
+        CryptoRequest updated = this.mongoAdapter.updateRequest(cryptoRequest, outboxOf(outbox, responseOf));
+        return responseOf.apply(updated);
+    }
+
+    public GenericCommandResponse addInvestor(CryptoRequest cryptoRequest, Investor investor, Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
+        CryptoRequest updated = this.mongoAdapter.addInvestor(cryptoRequest, investor, outboxOf(outbox, responseOf));
+        return responseOf.apply(updated);
+    }
+
+    public <T> GenericCommandResponse updateProperty(CryptoRequest cryptoRequest, Supplier<T> getter, Consumer<T> setter, Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
         setter.accept(getter.get());
-        return this.mongoAdapter.updateRequest(cryptoRequest);
+        return this.updateRequest(cryptoRequest, outbox, responseOf);
     }
 
-    public <T> CryptoRequest addItemToCollection(CryptoRequest cryptoRequest, T newProperty, Supplier<List<T>> collectionGetter, Consumer<List<T>> collectionSetter) {
+    public <T> GenericCommandResponse addItemToCollection(CryptoRequest cryptoRequest, T newProperty, Supplier<List<T>> collectionGetter, Consumer<List<T>> collectionSetter, Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
         if (CollectionUtils.isEmpty(collectionGetter.get())) {
             collectionSetter.accept(new ArrayList<>());
         }
         collectionGetter.get().add(newProperty);
-        return this.mongoAdapter.updateRequest(cryptoRequest);
+        return this.updateRequest(cryptoRequest, outbox, responseOf);
+    }
+
+    private static Function<CryptoRequest, List<OutboxEvent>> outboxOf(Function<CryptoRequestSupplier, List<OutboxEvent>> outbox, Function<CryptoRequest, GenericCommandResponse> responseOf) {
+        return prospective -> outbox.apply(responseOf.apply(prospective));
     }
 
     public <T> String toJsonString(T t) throws JsonProcessingException {
@@ -108,7 +143,7 @@ public class CommandHelper {
     }
 
     public static CryptoRequest getRequestByReferenceOrThrow(MongoAdapter mongoAdapter, String requestReference) {
-        return mongoAdapter.findRequestByReference(requestReference).orElseThrow(
+        return UnitOfWork.find(requestReference, mongoAdapter::findRequestByReference).orElseThrow(
                 () -> commandException(HttpStatus.NOT_FOUND, REQUEST_NOT_FOUND)
         );
     }
@@ -147,4 +182,69 @@ public class CommandHelper {
             throw commandException(HttpStatus.UNPROCESSABLE_ENTITY, REQUEST_COMPLETED_ERROR);
         }
     }
+
+    public static String encodeCursor(String createdOn, String id) {
+        String raw = createdOn + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RequestCursor decodeCursorOrThrow(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator > 0 && separator < raw.length() - 1) {
+                return RequestCursor.builder()
+                        .createdOn(raw.substring(0, separator))
+                        .id(raw.substring(separator + 1))
+                        .build();
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        throw commandException(HttpStatus.BAD_REQUEST, INVALID_CURSOR_ERROR);
+    }
+
+    public static <T> CursorSlice<T> toCursorSlice(Slice<CryptoRequest> slice, Function<CryptoRequest, T> mapper) {
+        return toCursorSlice(slice, x -> new RequestCursor(x.getCreatedOn(), x.getId()), mapper);
+    }
+
+    public static <S, T> CursorSlice<T> toCursorSlice(Slice<S> slice, Function<S, RequestCursor> position, Function<S, T> mapper) {
+        List<S> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            RequestCursor last = position.apply(content.get(content.size() - 1));
+            nextCursor = encodeCursor(last.getCreatedOn(), last.getId());
+        }
+        return CursorSlice.<T>builder()
+                .content(content.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(Objects.nonNull(nextCursor))
+                .build();
+    }
+
+    public static Map<String, Object> changesOf(CryptoRequest request, String path, Object value) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put(path, value);
+        changes.put("last_modified", request.getLastModified());
+        return changes;
+    }
+
+    public static Map<String, Object> investorChangesOf(CryptoRequest request, String investmentReference) {
+        Investor investor = CollectionUtils.isEmpty(request.getInvestors()) ? null : request.getInvestors().stream()
+                .filter(x -> investmentReference.equalsIgnoreCase(x.getReference()))
+                .findFirst()
+                .orElse(null);
+        return changesOf(request, String.format("investors[%s]", investmentReference), investor);
+    }
+
+    public static Map<String, Object> offerChangesOf(CryptoRequest request, String bargainReference) {
+        Offer offer = Objects.isNull(request.getBargain()) || CollectionUtils.isEmpty(request.getBargain().getOffers()) ? null
+                : request.getBargain().getOffers().stream()
+                .filter(x -> bargainReference.equalsIgnoreCase(x.getReference()))
+                .findFirst()
+                .orElse(null);
+        Map<String, Object> changes = changesOf(request, String.format("bargain.offers[%s]", bargainReference), offer);
+        changes.put("bargain.accepted_bargain_reference",
+                Objects.isNull(request.getBargain()) ? null : request.getBargain().getAcceptedBargainReference());
+        return changes;
+    }
 }
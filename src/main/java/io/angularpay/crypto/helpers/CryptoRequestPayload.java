@@ -0,0 +1,49 @@
+package io.angularpay.crypto.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.models.CryptoRequestDelta;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class CryptoRequestPayload {
+
+    public static final String ATTRIBUTE = CryptoRequestPayload.class.getName();
+
+    private final ObjectMapper mapper;
+    private final CryptoRequest request;
+    private final String type;
+    private volatile String json;
+
+    public String getJson() throws JsonProcessingException {
+        String rendered = this.json;
+        if (Objects.isNull(rendered)) {
+            synchronized (this) {
+                rendered = this.json;
+                if (Objects.isNull(rendered)) {
+                    rendered = this.mapper.writeValueAsString(this.request);
+                    this.json = rendered;
+                }
+            }
+        }
+        return rendered;
+    }
+
+    public boolean renders(Object request) {
+        return this.request == request;
+    }
+
+    public String getDeltaJson(Map<String, Object> changes) throws JsonProcessingException {
+        return this.mapper.writeValueAsString(CryptoRequestDelta.builder()
+                .reference(this.request.getReference())
+                .version(this.request.getVersion())
+                .type(this.type)
+                .changes(Objects.nonNull(changes) ? changes : new RawValue(getJson()))
+                .build());
+    }
+}
@@ -34,6 +34,15 @@ public class Helper {
         }
     }
 
+    public static <T> String writeAsStringOrDefault(ObjectMapper mapper, T source, CryptoRequestPayload payload) {
+        try {
+            return mapper.writer().withAttribute(CryptoRequestPayload.ATTRIBUTE, payload).writeValueAsString(source);
+        } catch (JsonProcessingException exception) {
+            log.error("An error occurred while writing source parameter as string", exception);
+            return "";
+        }
+    }
+
     public static AuthenticatedUser fromHeaders(Map<String, String> headers) {
         String clientIp = "";
         String xForwardedFor = headers.get("x-forwarded-for");
@@ -0,0 +1,94 @@
+package io.angularpay.crypto.helpers;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.angularpay.crypto.configurations.PublishingExecutorConfiguration.FAN_OUT_EXECUTOR;
+
+@Slf4j
+@Service
+public class NotificationFanOut {
+
+    private final Executor executor;
+    private final int perRequestConcurrency;
+
+    public NotificationFanOut(@Qualifier(FAN_OUT_EXECUTOR) Executor executor, AngularPayConfiguration configuration) {
+        this.executor = executor;
+        this.perRequestConcurrency = Math.max(1, configuration.getFanOut().getPerRequestConcurrency());
+    }
+
+    public void fanOut(Collection<String> audience, Consumer<String> delivery) {
+        Queue<String> recipients = new ConcurrentLinkedQueue<>(audience.stream()
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        // the calling thread is one of the workers, so delivery finishes even if the pool runs none of the others
+        List<Worker> helpers = IntStream.range(1, Math.min(this.perRequestConcurrency, recipients.size()))
+                .mapToObj(worker -> new Worker(recipients, delivery))
+                .collect(Collectors.toList());
+        for (Worker helper : helpers) {
+            try {
+                this.executor.execute(helper);
+            } catch (RejectedExecutionException exception) {
+                log.debug("fan-out worker rejected, delivering on the calling thread instead");
+                break;
+            }
+        }
+        deliver(recipients, delivery);
+        // workers the pool discarded or has not started yet are skipped, only running ones are waited for
+        helpers.forEach(Worker::skipIfNotStarted);
+        CompletableFuture.allOf(helpers.stream().map(x -> x.done).toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static void deliver(Queue<String> recipients, Consumer<String> delivery) {
+        String recipient;
+        while (Objects.nonNull(recipient = recipients.poll())) {
+            try {
+                delivery.accept(recipient);
+            } catch (Exception exception) {
+                log.error("An error occurred while delivering notification to {}", recipient, exception);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Worker implements Runnable {
+        private final Queue<String> recipients;
+        private final Consumer<String> delivery;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        @Override
+        public void run() {
+            if (!this.claimed.compareAndSet(false, true)) return;
+            try {
+                deliver(this.recipients, this.delivery);
+            } finally {
+                this.done.complete(null);
+            }
+        }
+
+        private void skipIfNotStarted() {
+            if (this.claimed.compareAndSet(false, true)) {
+                this.done.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.angularpay.crypto.helpers;
+
+import io.angularpay.crypto.domain.CryptoRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class UnitOfWork {
+
+    private static final ThreadLocal<Map<String, CryptoRequest>> LOADED = new ThreadLocal<>();
+
+    public static boolean begin() {
+        if (Objects.nonNull(LOADED.get())) return false;
+        LOADED.set(new HashMap<>());
+        return true;
+    }
+
+    public static void end() {
+        LOADED.remove();
+    }
+
+    public static Optional<CryptoRequest> find(String reference, Function<String, Optional<CryptoRequest>> loader) {
+        Map<String, CryptoRequest> loaded = LOADED.get();
+        if (Objects.isNull(loaded)) return loader.apply(reference);
+        CryptoRequest found = loaded.get(reference);
+        if (Objects.nonNull(found)) return Optional.of(found);
+        Optional<CryptoRequest> fetched = loader.apply(reference);
+        fetched.ifPresent(x -> loaded.put(reference, x));
+        return fetched;
+    }
+
+    public static void register(CryptoRequest request) {
+        Map<String, CryptoRequest> loaded = LOADED.get();
+        if (Objects.nonNull(loaded) && Objects.nonNull(request) && Objects.nonNull(request.getReference())) {
+            loaded.put(request.getReference(), request);
+        }
+    }
+
+    public static void clear() {
+        Map<String, CryptoRequest> loaded = LOADED.get();
+        if (Objects.nonNull(loaded)) loaded.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package io.angularpay.crypto.models;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CryptoRequestDelta {
+    private String reference;
+    private int version;
+    private String type;
+    private Object changes;
+}
@@ -1,12 +1,15 @@
 
 package io.angularpay.crypto.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.angularpay.crypto.domain.CryptoRequest;
 import io.angularpay.crypto.domain.commands.CryptoRequestSupplier;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @Builder(toBuilder = true)
 @RequiredArgsConstructor
@@ -15,4 +18,6 @@ public class GenericCommandResponse extends GenericReferenceResponse implements
     private final String requestReference;
     private final String itemReference;
     private final CryptoRequest cryptoRequest;
+    @JsonIgnore
+    private final Map<String, Object> changes;
 }
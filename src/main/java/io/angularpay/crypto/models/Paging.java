@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class Paging {
     private int index;
     private int size;
+    private String cursor;
+    private boolean includeTotal;
 }
\ No newline at end of file
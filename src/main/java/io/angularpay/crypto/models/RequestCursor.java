@@ -0,0 +1,15 @@
+package io.angularpay.crypto.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestCursor {
+    private String createdOn;
+    private String id;
+}
@@ -9,6 +9,7 @@ public class UserNotificationBuilderParameters<T, U> {
 
     private String userReference;
     private U request;
+    private String requestJson;
     private T commandResponse;
     private UserNotificationType type;
 }
@@ -0,0 +1,10 @@
+package io.angularpay.crypto.models;
+
+import io.angularpay.crypto.domain.Investee;
+
+public interface UserRequestSummary {
+    String getId();
+    String getReference();
+    String getCreatedOn();
+    Investee getInvestee();
+}
@@ -5,5 +5,5 @@ import lombok.Getter;
 
 @Getter
 public enum PlatformConfigurationSource {
-    HASH, TOPIC
+    HASH, TOPIC, DISK
 }
@@ -1,41 +1,110 @@
-
 package io.angularpay.crypto.models.platform;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.Data;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
-@Data
 @Component
 public class PlatformConfigurations {
 
-    @JsonProperty("platform_banks")
-    private List<PlatformBank> platformBanks;
+    private final AtomicReference<PlatformConfigurationsSnapshot> snapshot = new AtomicReference<>(PlatformConfigurationsSnapshot.EMPTY);
+
+    public PlatformConfigurationsSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    public List<PlatformBank> getPlatformBanks() {
+        return getSnapshot().getPlatformBanks();
+    }
+
+    public List<PlatformCountry> getPlatformCountries() {
+        return getSnapshot().getPlatformCountries();
+    }
+
+    public List<PlatformCountryFeature> getPlatformCountryFeatures() {
+        return getSnapshot().getPlatformCountryFeatures();
+    }
+
+    public List<PlatformCurrency> getPlatformCurrencies() {
+        return getSnapshot().getPlatformCurrencies();
+    }
+
+    public List<PlatformMaturityConfiguration> getPlatformMaturityConfigurations() {
+        return getSnapshot().getPlatformMaturityConfigurations();
+    }
+
+    public List<PlatformNotificationType> getPlatformNotificationTypes() {
+        return getSnapshot().getPlatformNotificationTypes();
+    }
+
+    public List<PlatformOTPType> getPlatformOTPTypes() {
+        return getSnapshot().getPlatformOTPTypes();
+    }
+
+    public List<PlatformService> getPlatformServices() {
+        return getSnapshot().getPlatformServices();
+    }
+
+    public PlatformTTLConfiguration getPlatformTTLConfiguration() {
+        return getSnapshot().getPlatformTTLConfiguration();
+    }
+
+    public Optional<PlatformBank> findBank(String code) {
+        return getSnapshot().findBank(code);
+    }
+
+    public Optional<PlatformCountry> findCountry(String code) {
+        return getSnapshot().findCountry(code);
+    }
+
+    public Optional<PlatformCurrency> findCurrency(String code) {
+        return getSnapshot().findCurrency(code);
+    }
+
+    public Optional<PlatformService> findService(String code) {
+        return getSnapshot().findService(code);
+    }
+
+    public void setPlatformBanks(List<PlatformBank> platformBanks) {
+        update(x -> x.platformBanks(platformBanks));
+    }
 
-    @JsonProperty("platform_countries")
-    private List<PlatformCountry> platformCountries;
+    public void setPlatformCountries(List<PlatformCountry> platformCountries) {
+        update(x -> x.platformCountries(platformCountries));
+    }
 
-    @JsonProperty("platform_country_features")
-    private List<PlatformCountryFeature> platformCountryFeatures;
+    public void setPlatformCountryFeatures(List<PlatformCountryFeature> platformCountryFeatures) {
+        update(x -> x.platformCountryFeatures(platformCountryFeatures));
+    }
 
-    @JsonProperty("platform_currencies")
-    private List<PlatformCurrency> platformCurrencies;
+    public void setPlatformCurrencies(List<PlatformCurrency> platformCurrencies) {
+        update(x -> x.platformCurrencies(platformCurrencies));
+    }
 
-    @JsonProperty("platform_maturity_configurations")
-    private List<PlatformMaturityConfiguration> platformMaturityConfigurations;
+    public void setPlatformMaturityConfigurations(List<PlatformMaturityConfiguration> platformMaturityConfigurations) {
+        update(x -> x.platformMaturityConfigurations(platformMaturityConfigurations));
+    }
 
-    @JsonProperty("platform_notification_types")
-    private List<PlatformNotificationType> platformNotificationTypes;
+    public void setPlatformNotificationTypes(List<PlatformNotificationType> platformNotificationTypes) {
+        update(x -> x.platformNotificationTypes(platformNotificationTypes));
+    }
 
-    @JsonProperty("platform_otp_types")
-    private List<PlatformOTPType> platformOTPTypes;
+    public void setPlatformOTPTypes(List<PlatformOTPType> platformOTPTypes) {
+        update(x -> x.platformOTPTypes(platformOTPTypes));
+    }
 
-    @JsonProperty("platform_services")
-    private List<PlatformService> platformServices;
+    public void setPlatformServices(List<PlatformService> platformServices) {
+        update(x -> x.platformServices(platformServices));
+    }
 
-    @JsonProperty("platform_ttl_configuration")
-    private PlatformTTLConfiguration platformTTLConfiguration;
+    public void setPlatformTTLConfiguration(PlatformTTLConfiguration platformTTLConfiguration) {
+        update(x -> x.platformTTLConfiguration(platformTTLConfiguration));
+    }
 
+    private void update(UnaryOperator<PlatformConfigurationsSnapshot.PlatformConfigurationsSnapshotBuilder> change) {
+        this.snapshot.updateAndGet(current -> change.apply(current.toBuilder()).build());
+    }
 }
@@ -0,0 +1,122 @@
+package io.angularpay.crypto.models.platform;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class PlatformConfigurationsSnapshot {
+
+    public static final PlatformConfigurationsSnapshot EMPTY = PlatformConfigurationsSnapshot.builder().build();
+
+    @JsonProperty("platform_banks")
+    private final List<PlatformBank> platformBanks;
+
+    @JsonProperty("platform_countries")
+    private final List<PlatformCountry> platformCountries;
+
+    @JsonProperty("platform_country_features")
+    private final List<PlatformCountryFeature> platformCountryFeatures;
+
+    @JsonProperty("platform_currencies")
+    private final List<PlatformCurrency> platformCurrencies;
+
+    @JsonProperty("platform_maturity_configurations")
+    private final List<PlatformMaturityConfiguration> platformMaturityConfigurations;
+
+    @JsonProperty("platform_notification_types")
+    private final List<PlatformNotificationType> platformNotificationTypes;
+
+    @JsonProperty("platform_otp_types")
+    private final List<PlatformOTPType> platformOTPTypes;
+
+    @JsonProperty("platform_services")
+    private final List<PlatformService> platformServices;
+
+    @JsonProperty("platform_ttl_configuration")
+    private final PlatformTTLConfiguration platformTTLConfiguration;
+
+    @JsonIgnore
+    private final Map<String, PlatformBank> banksByCode;
+
+    @JsonIgnore
+    private final Map<String, PlatformCountry> countriesByCode;
+
+    @JsonIgnore
+    private final Map<String, PlatformCurrency> currenciesByCode;
+
+    @JsonIgnore
+    private final Map<String, PlatformService> servicesByCode;
+
+    @Builder(toBuilder = true)
+    private PlatformConfigurationsSnapshot(
+            List<PlatformBank> platformBanks,
+            List<PlatformCountry> platformCountries,
+            List<PlatformCountryFeature> platformCountryFeatures,
+            List<PlatformCurrency> platformCurrencies,
+            List<PlatformMaturityConfiguration> platformMaturityConfigurations,
+            List<PlatformNotificationType> platformNotificationTypes,
+            List<PlatformOTPType> platformOTPTypes,
+            List<PlatformService> platformServices,
+            PlatformTTLConfiguration platformTTLConfiguration) {
+        this.platformBanks = immutable(platformBanks);
+        this.platformCountries = immutable(platformCountries);
+        this.platformCountryFeatures = immutable(platformCountryFeatures);
+        this.platformCurrencies = immutable(platformCurrencies);
+        this.platformMaturityConfigurations = immutable(platformMaturityConfigurations);
+        this.platformNotificationTypes = immutable(platformNotificationTypes);
+        this.platformOTPTypes = immutable(platformOTPTypes);
+        this.platformServices = immutable(platformServices);
+        this.platformTTLConfiguration = platformTTLConfiguration;
+        this.banksByCode = index(this.platformBanks, PlatformBank::getCode);
+        this.countriesByCode = index(this.platformCountries, PlatformCountry::getCode);
+        this.currenciesByCode = index(this.platformCurrencies, PlatformCurrency::getCode);
+        this.servicesByCode = index(this.platformServices, PlatformService::getCode);
+    }
+
+    public Optional<PlatformBank> findBank(String code) {
+        return lookup(this.banksByCode, code);
+    }
+
+    public Optional<PlatformCountry> findCountry(String code) {
+        return lookup(this.countriesByCode, code);
+    }
+
+    public Optional<PlatformCurrency> findCurrency(String code) {
+        return lookup(this.currenciesByCode, code);
+    }
+
+    public Optional<PlatformService> findService(String code) {
+        return lookup(this.servicesByCode, code);
+    }
+
+    private static <T> List<T> immutable(List<T> list) {
+        if (Objects.isNull(list)) return Collections.emptyList();
+        return list.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+    }
+
+    private static <T> Map<String, T> index(List<T> list, Function<T, String> code) {
+        return Collections.unmodifiableMap(list.stream()
+                .filter(x -> StringUtils.hasText(code.apply(x)))
+                .collect(Collectors.toMap(x -> normalize(code.apply(x)), Function.identity(), (first, second) -> first)));
+    }
+
+    private static <T> Optional<T> lookup(Map<String, T> index, String code) {
+        return StringUtils.hasText(code) ? Optional.ofNullable(index.get(normalize(code))) : Optional.empty();
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
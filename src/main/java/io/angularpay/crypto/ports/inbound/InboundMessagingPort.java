@@ -4,4 +4,5 @@ import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
 
 public interface InboundMessagingPort {
     void onMessage(String message, PlatformConfigurationIdentifier identifier);
+    void onRequestUpdate(String message);
 }
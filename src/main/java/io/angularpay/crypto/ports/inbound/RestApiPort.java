@@ -24,10 +24,15 @@ public interface RestApiPort {
     void updateRequestStatus(String requestReference, RequestStatusModel status, Map<String, String> headers);
     CryptoRequest getRequestByReference(String requestReference, Map<String, String> headers);
     List<CryptoRequest> getNewsfeedModel(int page, Map<String, String> headers);
+    CursorSlice<CryptoRequest> getNewsfeedSlice(String cursor, Map<String, String> headers);
     List<UserRequestModel> getUserRequests(int page, Map<String, String> headers);
+    CursorSlice<UserRequestModel> getUserRequestsSlice(String cursor, Map<String, String> headers);
     List<UserInvestmentModel> getUserInvestments(int page, Map<String, String> headers);
     List<CryptoRequest> getNewsfeedByStatus(int page, List<RequestStatus> statuses, Map<String, String> headers);
+    CursorSlice<CryptoRequest> getNewsfeedSliceByStatus(String cursor, List<RequestStatus> statuses, Map<String, String> headers);
     List<CryptoRequest> getRequestListByStatus(int page, List<RequestStatus> statuses, Map<String, String> headers);
     List<CryptoRequest> getRequestList(int page, Map<String, String> headers);
+    CursorSlice<CryptoRequest> getRequestListSlice(String cursor, boolean includeTotal, Map<String, String> headers);
     List<Statistics> getStatistics(Map<String, String> headers);
+    List<Statistics> getIndexStatistics(Map<String, String> headers);
 }
@@ -2,9 +2,11 @@ package io.angularpay.crypto.ports.outbound;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.angularpay.crypto.models.VerifySignatureResponseModel;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
 public interface CipherServicePort {
     VerifySignatureResponseModel verifySignature(String requestBody, Map<String, String> headers) throws JsonProcessingException;
+    Mono<VerifySignatureResponseModel> verifySignatureAsync(String requestBody, Map<String, String> headers);
 }
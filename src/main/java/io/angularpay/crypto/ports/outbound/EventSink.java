@@ -0,0 +1,6 @@
+package io.angularpay.crypto.ports.outbound;
+
+@FunctionalInterface
+public interface EventSink {
+    void publish(String topic, String message);
+}
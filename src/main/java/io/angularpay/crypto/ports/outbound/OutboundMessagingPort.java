@@ -4,7 +4,13 @@ import java.util.Map;
 
 public interface OutboundMessagingPort {
     void publishUpdates(String message);
+    void publishUpdatesDelta(String message);
     void publishTTL(String message);
     void publishUserNotification(String message);
-    Map<String, String> getPlatformConfigurations(String hashName);
+    String getPlatformConfiguration(String hashName, String hashField);
+    Map<String, String> getStatusCounters(String hashName);
+    boolean incrementStatusCounters(String hashName, String epoch, Map<String, Long> deltas);
+    long resetStatusCounters(String hashName, Map<String, Long> counts);
+    boolean acquireLock(String key, String owner, long ttlMs);
+    void releaseLock(String key, String owner);
 }
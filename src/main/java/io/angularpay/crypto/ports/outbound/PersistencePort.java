@@ -1,20 +1,34 @@
 package io.angularpay.crypto.ports.outbound;
 
 import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.Investor;
+import io.angularpay.crypto.domain.OutboxEvent;
 import io.angularpay.crypto.domain.RequestStatus;
-import org.springframework.data.domain.Page;
+import io.angularpay.crypto.models.RequestCursor;
+import io.angularpay.crypto.models.UserRequestSummary;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public interface PersistencePort {
-    CryptoRequest createRequest(CryptoRequest request);
-    CryptoRequest updateRequest(CryptoRequest request);
+    CryptoRequest createRequest(CryptoRequest request, Function<CryptoRequest, List<OutboxEvent>> outbox);
+    CryptoRequest updateRequest(CryptoRequest request, Function<CryptoRequest, List<OutboxEvent>> outbox);
+    CryptoRequest addInvestor(CryptoRequest request, Investor investor, Function<CryptoRequest, List<OutboxEvent>> outbox);
     Optional<CryptoRequest> findRequestByReference(String reference);
-    Page<CryptoRequest> listRequests(Pageable pageable);
-    Page<CryptoRequest> findRequestsByStatus(Pageable pageable, List<RequestStatus> statuses);
-    Page<CryptoRequest> findByInvesteeUserReference(Pageable pageable, String userReference);
-    long getCountByRequestStatus(RequestStatus status);
-    long getTotalCount();
+    void evictRequest(String reference, int version);
+    Slice<CryptoRequest> listRequests(Pageable pageable);
+    Slice<CryptoRequest> findRequestsByStatus(Pageable pageable, List<RequestStatus> statuses);
+    Slice<UserRequestSummary> findByInvesteeUserReference(Pageable pageable, String userReference);
+    Slice<CryptoRequest> listRequests(RequestCursor cursor, int size);
+    Slice<CryptoRequest> findRequestsByStatus(RequestCursor cursor, int size, List<RequestStatus> statuses);
+    Slice<UserRequestSummary> findByInvesteeUserReference(RequestCursor cursor, int size, String userReference);
+    List<CryptoRequest> findInvestmentsByInvestorUserReference(Pageable pageable, String userReference);
+    EnumMap<RequestStatus, Long> getCountsByStatus();
+    long getApproximateTotalCount();
+    Map<String, Long> getIndexUsage();
 }
@@ -0,0 +1,10 @@
+package io.angularpay.crypto.ports.outbound;
+
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+
+import java.util.Optional;
+
+public interface PlatformConfigurationsStorePort {
+    Optional<String> load(PlatformConfigurationIdentifier identifier);
+    void save(PlatformConfigurationIdentifier identifier, String message);
+}
@@ -0,0 +1,96 @@
+package io.angularpay.crypto.adapters.common;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisConfigurationTest {
+
+    private final RedisConfiguration redisConfiguration = new RedisConfiguration();
+
+    @Test
+    void jedisFactoryIsPooledWithTheConfiguredLimitsAndTimeouts() {
+        AngularPayConfiguration configuration = configuration(AngularPayConfiguration.RedisDriver.JEDIS);
+
+        RedisConnectionFactory factory = redisConfiguration.connectionFactory(configuration);
+
+        assertThat(factory).isInstanceOf(JedisConnectionFactory.class);
+        JedisConnectionFactory jedis = (JedisConnectionFactory) factory;
+        assertThat(jedis.getHostName()).isEqualTo("redis.local");
+        assertThat(jedis.getPort()).isEqualTo(6380);
+        JedisClientConfiguration client = jedis.getClientConfiguration();
+        assertThat(client.isUsePooling()).isTrue();
+        assertThat(client.getConnectTimeout()).isEqualTo(Duration.ofMillis(250));
+        assertThat(client.getReadTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(client.getPoolConfig()).hasValueSatisfying(pool -> {
+            assertThat(pool.getMaxTotal()).isEqualTo(32);
+            assertThat(pool.getMaxIdle()).isEqualTo(16);
+            assertThat(pool.getMinIdle()).isEqualTo(4);
+            assertThat(pool.getMaxWaitMillis()).isEqualTo(100);
+            assertThat(pool.getJmxEnabled()).isTrue();
+        });
+    }
+
+    @Test
+    void lettuceFactoryIsPooledWithTheConfiguredLimitsAndTimeouts() {
+        AngularPayConfiguration configuration = configuration(AngularPayConfiguration.RedisDriver.LETTUCE);
+
+        RedisConnectionFactory factory = redisConfiguration.connectionFactory(configuration);
+
+        assertThat(factory).isInstanceOf(LettuceConnectionFactory.class);
+        LettuceConnectionFactory lettuce = (LettuceConnectionFactory) factory;
+        assertThat(lettuce.getHostName()).isEqualTo("redis.local");
+        assertThat(lettuce.getClientConfiguration()).isInstanceOf(LettucePoolingClientConfiguration.class);
+        LettucePoolingClientConfiguration client = (LettucePoolingClientConfiguration) lettuce.getClientConfiguration();
+        assertThat(client.getCommandTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(client.getPoolConfig().getMaxTotal()).isEqualTo(32);
+        assertThat(client.getClientOptions()).hasValueSatisfying(options ->
+                assertThat(options.getSocketOptions().getConnectTimeout()).isEqualTo(Duration.ofMillis(250)));
+    }
+
+    @Test
+    void timeoutsFallBackToTheGeneralTimeout() {
+        AngularPayConfiguration configuration = configuration(AngularPayConfiguration.RedisDriver.JEDIS);
+        configuration.getRedis().setConnectTimeoutMs(0);
+        configuration.getRedis().setReadTimeoutMs(0);
+
+        JedisConnectionFactory factory = (JedisConnectionFactory) redisConfiguration.connectionFactory(configuration);
+
+        assertThat(factory.getClientConfiguration().getConnectTimeout()).isEqualTo(Duration.ofMillis(2000));
+        assertThat(factory.getClientConfiguration().getReadTimeout()).isEqualTo(Duration.ofMillis(2000));
+    }
+
+    @Test
+    void templateUsesTheSharedFactory() {
+        RedisConnectionFactory factory = redisConfiguration.connectionFactory(configuration(AngularPayConfiguration.RedisDriver.JEDIS));
+
+        assertThat(redisConfiguration.template(factory).getConnectionFactory()).isSameAs(factory);
+    }
+
+    private static AngularPayConfiguration configuration(AngularPayConfiguration.RedisDriver driver) {
+        AngularPayConfiguration.Redis.Pool pool = new AngularPayConfiguration.Redis.Pool();
+        pool.setMaxTotal(32);
+        pool.setMaxIdle(16);
+        pool.setMinIdle(4);
+        pool.setMaxWaitMs(100);
+        AngularPayConfiguration.Redis redis = new AngularPayConfiguration.Redis();
+        redis.setHost("redis.local");
+        redis.setPort(6380);
+        redis.setTimeout(2000);
+        redis.setConnectTimeoutMs(250);
+        redis.setReadTimeoutMs(500);
+        redis.setDriver(driver);
+        redis.setPool(pool);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setRedis(redis);
+        return configuration;
+    }
+}
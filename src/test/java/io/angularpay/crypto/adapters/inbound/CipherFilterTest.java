@@ -0,0 +1,137 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import io.angularpay.crypto.adapters.outbound.CipherServiceAdapter;
+import io.angularpay.crypto.models.VerifySignatureResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CipherFilterTest {
+
+    private CipherServiceAdapter cipherServiceAdapter;
+    private CipherFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        cipherServiceAdapter = mock(CipherServiceAdapter.class);
+        filter = new CipherFilter(cipherServiceAdapter, 5000);
+        request = new MockHttpServletRequest("POST", "/crypto/requests");
+        request.setAsyncSupported(true);
+        request.addHeader("x-angularpay-cipher-reference", "cipher-1");
+        request.setContent("{\"amount\":1}".getBytes(StandardCharsets.UTF_8));
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    void validSignatureResumesTheChainOnAsyncDispatch() throws Exception {
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap()))
+                .thenReturn(Mono.just(new VerifySignatureResponseModel(true)));
+
+        filter.doFilter(request, response, chain);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(5000);
+        assertThat(asyncContext.getDispatchedPath()).isEqualTo("/crypto/requests");
+        assertThat(chain.getRequest()).isNull();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void invalidSignatureWritesTheCipherErrorAndCompletes() throws Exception {
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap()))
+                .thenReturn(Mono.just(new VerifySignatureResponseModel(false)));
+
+        filter.doFilter(request, response, chain);
+
+        assertCipherError();
+        assertThat(((MockAsyncContext) request.getAsyncContext()).getDispatchedPath()).isNull();
+    }
+
+    @Test
+    void verificationErrorWritesTheCipherErrorAndCompletes() throws Exception {
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap()))
+                .thenReturn(Mono.error(new IllegalStateException("cipher service unavailable")));
+
+        filter.doFilter(request, response, chain);
+
+        assertCipherError();
+    }
+
+    @Test
+    void failureBuildingTheVerificationWritesTheCipherErrorWithoutGoingAsync() throws Exception {
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap()))
+                .thenThrow(new IllegalArgumentException("missing cipher reference"));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(request.getAsyncContext()).isNull();
+        assertCipherError();
+    }
+
+    @Test
+    void timeoutWritesTheCipherErrorAndIgnoresALateResult() throws Exception {
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap())).thenReturn(Mono.never());
+
+        filter.doFilter(request, response, chain);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertCipherError();
+        assertThat(asyncContext.getDispatchedPath()).isNull();
+    }
+
+    @Test
+    void blockingFallbackIsUsedWhenAsyncIsNotSupported() throws Exception {
+        request.setAsyncSupported(false);
+        when(cipherServiceAdapter.verifySignatureAsync(anyString(), anyMap()))
+                .thenReturn(Mono.just(new VerifySignatureResponseModel(true)));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(request.getAsyncContext()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void requestsOtherThanPostAndPutAreNotVerified() throws Exception {
+        request.setMethod("GET");
+
+        filter.doFilter(request, response, chain);
+
+        verifyNoInteractions(cipherServiceAdapter);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private void assertCipherError() throws Exception {
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("CIPHER_ERROR");
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(chain.getRequest()).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import io.angularpay.crypto.domain.commands.PlatformConfigurationsConverterCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_BANKS;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_COUNTRIES;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PlatformConfigurationDispatcherTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private PlatformConfigurationsConverterCommand converterCommand;
+    private PlatformConfigurationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        converterCommand = mock(PlatformConfigurationsConverterCommand.class);
+        dispatcher = new PlatformConfigurationDispatcher(converterCommand, tasks::add);
+    }
+
+    @Test
+    void messagesQueuedBehindABusySlotCoalesceToTheLatest() {
+        dispatcher.dispatch("v1", PLATFORM_BANKS);
+        dispatcher.dispatch("v2", PLATFORM_BANKS);
+        dispatcher.dispatch("v3", PLATFORM_BANKS);
+
+        assertThat(tasks).hasSize(1);
+        runAll();
+
+        verify(converterCommand).execute("v3", PLATFORM_BANKS, TOPIC);
+        verifyNoMoreInteractions(converterCommand);
+    }
+
+    @Test
+    void identifiersAreDispatchedIndependently() {
+        dispatcher.dispatch("banks", PLATFORM_BANKS);
+        dispatcher.dispatch("countries", PLATFORM_COUNTRIES);
+
+        assertThat(tasks).hasSize(2);
+        runAll();
+
+        verify(converterCommand).execute("banks", PLATFORM_BANKS, TOPIC);
+        verify(converterCommand).execute("countries", PLATFORM_COUNTRIES, TOPIC);
+    }
+
+    @Test
+    void aMessageArrivingWhileDrainingIsAppliedAfterTheCurrentOne() {
+        doAnswer(invocation -> {
+            if ("v1".equals(invocation.getArgument(0))) {
+                dispatcher.dispatch("v2", PLATFORM_BANKS);
+            }
+            return null;
+        }).when(converterCommand).execute(anyString(), any(), any());
+
+        dispatcher.dispatch("v1", PLATFORM_BANKS);
+        runAll();
+
+        verify(converterCommand).execute("v1", PLATFORM_BANKS, TOPIC);
+        verify(converterCommand).execute("v2", PLATFORM_BANKS, TOPIC);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void anUnprocessableMessageDoesNotBlockTheNextOne() {
+        doThrow(new IllegalArgumentException("bad payload")).when(converterCommand).execute(eq("bad"), any(), any());
+
+        dispatcher.dispatch("bad", PLATFORM_BANKS);
+        runAll();
+        dispatcher.dispatch("good", PLATFORM_BANKS);
+        runAll();
+
+        verify(converterCommand).execute("good", PLATFORM_BANKS, TOPIC);
+    }
+
+    private void runAll() {
+        Runnable task;
+        while (Objects.nonNull(task = tasks.poll())) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.commands.PlatformConfigurationsConverterCommand;
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+import io.angularpay.crypto.ports.outbound.OutboundMessagingPort;
+import io.angularpay.crypto.ports.outbound.PlatformConfigurationsStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_BANKS;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_COUNTRIES;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.DISK;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.HASH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PlatformConfigurationsHydratorTest {
+
+    private PlatformConfigurationsConverterCommand converterCommand;
+    private OutboundMessagingPort outboundMessagingPort;
+    private PlatformConfigurationsStorePort storePort;
+    private TaskScheduler taskScheduler;
+    private PlatformConfigurationsHydrator hydrator;
+
+    @BeforeEach
+    void setUp() {
+        converterCommand = mock(PlatformConfigurationsConverterCommand.class);
+        outboundMessagingPort = mock(OutboundMessagingPort.class);
+        storePort = mock(PlatformConfigurationsStorePort.class);
+        taskScheduler = mock(TaskScheduler.class);
+        when(storePort.load(any())).thenReturn(Optional.empty());
+        when(outboundMessagingPort.getPlatformConfiguration(anyString(), anyString())).thenReturn("[]");
+
+        AngularPayConfiguration.Platform platform = new AngularPayConfiguration.Platform();
+        platform.setHydrationRetryMs(2000);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setPlatform(platform);
+        hydrator = new PlatformConfigurationsHydrator(converterCommand, outboundMessagingPort, storePort,
+                Runnable::run, taskScheduler, configuration);
+    }
+
+    @Test
+    void outOfServiceUntilEveryIdentifierIsHydrated() {
+        assertThat(hydrator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        hydrator.onApplicationStarted();
+
+        for (PlatformConfigurationIdentifier identifier : PlatformConfigurationIdentifier.values()) {
+            verify(converterCommand).execute("[]", identifier, HASH);
+        }
+        assertThat(hydrator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void aFailedHashReadIsReportedAndRetried() {
+        when(outboundMessagingPort.getPlatformConfiguration(anyString(), eq(PLATFORM_BANKS.getHashField())))
+                .thenThrow(new IllegalStateException("redis is down"))
+                .thenReturn("[]");
+
+        hydrator.onApplicationStarted();
+
+        Health health = hydrator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails())
+                .containsEntry("pending", List.of(PLATFORM_BANKS.name()))
+                .containsEntry("failures", Map.of(PLATFORM_BANKS, "redis is down"));
+
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(retry.capture(), any(Instant.class));
+        retry.getValue().run();
+
+        verify(converterCommand).execute("[]", PLATFORM_BANKS, HASH);
+        assertThat(hydrator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void identifiersRestoredFromDiskAreReadyBeforeTheHashIsRead() {
+        when(storePort.load(PLATFORM_COUNTRIES)).thenReturn(Optional.of("[{}]"));
+        when(outboundMessagingPort.getPlatformConfiguration(anyString(), anyString())).thenThrow(new IllegalStateException("redis is down"));
+
+        hydrator.onApplicationStarted();
+
+        verify(converterCommand).execute("[{}]", PLATFORM_COUNTRIES, DISK);
+        assertThat(hydrator.health().getDetails().get("pending")).asList()
+                .doesNotContain(PLATFORM_COUNTRIES.name())
+                .contains(PLATFORM_BANKS.name());
+    }
+
+    @Test
+    void identifiersAlreadyAppliedFromTheTopicSkipTheHashRead() {
+        when(converterCommand.isApplied(any())).thenReturn(true);
+
+        hydrator.onApplicationStarted();
+
+        verifyNoInteractions(outboundMessagingPort);
+        verify(converterCommand, never()).execute(anyString(), any(), eq(HASH));
+        assertThat(hydrator.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
@@ -0,0 +1,21 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RedisInboundConfigurationTest {
+
+    @Test
+    void listenerContainerSubscribesThroughTheSharedFactory() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+
+        RedisMessageListenerContainer container = new RedisInboundConfiguration()
+                .redisMessageListenerContainer(mock(RedisMessageAdapter.class), connectionFactory);
+
+        assertThat(container.getConnectionFactory()).isSameAs(connectionFactory);
+    }
+}
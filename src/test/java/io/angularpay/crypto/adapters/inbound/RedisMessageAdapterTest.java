@@ -0,0 +1,37 @@
+package io.angularpay.crypto.adapters.inbound;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.adapters.outbound.MongoAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RedisMessageAdapterTest {
+
+    private MongoAdapter mongoAdapter;
+    private RedisMessageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        mongoAdapter = mock(MongoAdapter.class);
+        adapter = new RedisMessageAdapter(mock(PlatformConfigurationDispatcher.class), mongoAdapter, new ObjectMapper());
+    }
+
+    @Test
+    void requestUpdatesEvictByReferenceAndVersion() {
+        adapter.onRequestUpdate("{\"event_id\":\"e1\",\"id\":\"x\",\"version\":5,\"reference\":\"ref-1\"}");
+
+        verify(mongoAdapter).evictRequest("ref-1", 5);
+    }
+
+    @Test
+    void malformedOrIncompleteUpdatesAreIgnored() {
+        adapter.onRequestUpdate("not json");
+        adapter.onRequestUpdate("{\"reference\":\"ref-1\"}");
+
+        verify(mongoAdapter, never()).evictRequest(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,91 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.Amount;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.RequestStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoRequestCacheTest {
+
+    private CryptoRequestCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        AngularPayConfiguration.Cache settings = new AngularPayConfiguration.Cache();
+        settings.setMaximumSize(100);
+        settings.setExpireAfterWriteSeconds(60);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setCache(settings);
+        cache = new CryptoRequestCache(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()),
+                configuration, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void cachedRequestsAreServedAsIndependentCopies() {
+        cache.put(request(2, "100"));
+
+        CryptoRequest first = get();
+        first.getAmount().setValue("999");
+
+        assertThat(get().getAmount().getValue()).isEqualTo("100");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void anOlderVersionNeverReplacesANewerOne() {
+        cache.put(request(3, "300"));
+        cache.put(request(2, "200"));
+
+        assertThat(get().getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void updatesEvictOnlyEntriesOlderThanTheirVersion() {
+        cache.put(request(3, "300"));
+
+        cache.evictOlderThan("ref-1", 3);
+        assertThat(get().getVersion()).isEqualTo(3);
+        assertThat(loads).hasValue(0);
+
+        cache.evictOlderThan("ref-1", 4);
+        assertThat(get().getVersion()).isEqualTo(4);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void missesAreLoadedAndCached() {
+        assertThat(get().getVersion()).isEqualTo(4);
+        assertThat(get().getVersion()).isEqualTo(4);
+        assertThat(loads).hasValue(1);
+    }
+
+    private CryptoRequest get() {
+        return cache.get("ref-1", () -> {
+            loads.incrementAndGet();
+            return Optional.of(request(4, "400"));
+        }).orElseThrow();
+    }
+
+    private static CryptoRequest request(int version, String amount) {
+        return CryptoRequest.builder()
+                .id("6151b1f0c3a1f2a1b2c3d4e5")
+                .reference("ref-1")
+                .version(version)
+                .status(RequestStatus.ACTIVE)
+                .amount(Amount.builder().currency("USD").value(amount).build())
+                .build();
+    }
+}
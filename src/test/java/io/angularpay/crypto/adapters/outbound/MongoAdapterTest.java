@@ -0,0 +1,315 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.Amount;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.Investor;
+import io.angularpay.crypto.domain.OutboxEvent;
+import io.angularpay.crypto.domain.RequestStatus;
+import io.angularpay.crypto.models.RequestCursor;
+import io.angularpay.crypto.models.UserRequestSummary;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ExecutableFindOperation.ExecutableFind;
+import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
+import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoAdapterTest {
+
+    private CryptoRepository cryptoRepository;
+    private MongoTemplate mongoTemplate;
+    private CryptoRequestCache cryptoRequestCache;
+    private AngularPayConfiguration configuration;
+    private MongoAdapter mongoAdapter;
+
+    @BeforeEach
+    void setUp() {
+        cryptoRepository = mock(CryptoRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        cryptoRequestCache = mock(CryptoRequestCache.class);
+        configuration = new AngularPayConfiguration();
+        configuration.setOutbox(new AngularPayConfiguration.Outbox());
+        mongoAdapter = new MongoAdapter(cryptoRepository, mongoTemplate, mock(MongoIndexManager.class),
+                cryptoRequestCache, configuration);
+    }
+
+    @Test
+    void investorIsAppendedOnlyIfTheVersionIsUnchanged() {
+        CryptoRequest found = request(4);
+        CryptoRequest updated = request(5);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(CryptoRequest.class)))
+                .thenReturn(updated);
+
+        CryptoRequest result = mongoAdapter.addInvestor(found, investor(), x -> Collections.emptyList());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), options.capture(), eq(CryptoRequest.class));
+
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("reference", "ref-1")
+                .containsEntry("version", 4);
+        Document document = update.getValue().getUpdateObject();
+        assertThat(document.get("$push", Document.class)).containsKey("investors").doesNotContainKey("outbox");
+        assertThat(document.get("$inc", Document.class)).containsEntry("version", 1);
+        assertThat(document.get("$set", Document.class)).containsKey("lastModified");
+        assertThat(options.getValue().isReturnNew()).isTrue();
+        assertThat(result).isSameAs(updated);
+        verify(cryptoRequestCache).put(updated);
+    }
+
+    @Test
+    void aConcurrentWriteFailsWithAnOptimisticLockingFailureAndEvictsTheCache() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(CryptoRequest.class)))
+                .thenReturn(null);
+
+        assertThatThrownBy(() -> mongoAdapter.addInvestor(request(4), investor(), x -> Collections.emptyList()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(cryptoRequestCache).evict("ref-1");
+        verify(cryptoRequestCache, never()).put(any());
+    }
+
+    @Test
+    void outboxEventsAreRenderedFromTheAppendedStateAndPushedInTheSameUpdate() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(CryptoRequest.class)))
+                .thenReturn(request(5));
+        CryptoRequest found = request(4);
+        AtomicReference<CryptoRequest> rendered = new AtomicReference<>();
+
+        mongoAdapter.addInvestor(found, investor(), prospective -> {
+            rendered.set(prospective);
+            return List.of(OutboxEvent.builder().eventId("e1").topic("crypto").payload("{}").build());
+        });
+
+        assertThat(rendered.get().getVersion()).isEqualTo(5);
+        assertThat(rendered.get().getInvestors()).extracting(Investor::getReference).containsExactly("inv-0", "inv-1");
+        assertThat(found.getInvestors()).hasSize(1);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(CryptoRequest.class));
+        assertThat(update.getValue().getUpdateObject().get("$push", Document.class)).containsKeys("investors", "outbox");
+    }
+
+    @Test
+    void updatesInOutboxModeSetTheRequestAndPushItsEventsWithoutReplacingTheDocument() {
+        configuration.getOutbox().setEnabled(true);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(CryptoRequest.class)))
+                .thenReturn(request(5));
+        CryptoRequest found = request(4);
+        found.setBargain(null);
+        found.setAmount(Amount.builder().currency("USD").value("50").build());
+        AtomicReference<CryptoRequest> rendered = new AtomicReference<>();
+
+        mongoAdapter.updateRequest(found, prospective -> {
+            rendered.set(prospective);
+            return List.of(OutboxEvent.builder().eventId("e1").topic("crypto").payload("{}").build());
+        });
+
+        assertThat(rendered.get().getVersion()).isEqualTo(5);
+        assertThat(rendered.get().getLastModified()).isEqualTo(found.getLastModified()).isNotNull();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(CryptoRequest.class));
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("id", "6151b1f0c3a1f2a1b2c3d4e5")
+                .containsEntry("version", 4);
+        assertThat(query.getValue().getFieldsObject()).containsEntry("outbox", 0);
+
+        Document document = update.getValue().getUpdateObject();
+        assertThat(document.get("$set", Document.class))
+                .containsEntry("version", 5)
+                .containsKeys("amount", "investors", "lastModified", "reference")
+                .doesNotContainKeys("_id", "outbox");
+        assertThat(document.get("$unset", Document.class)).containsKey("bargain").doesNotContainKey("_id");
+        assertThat(document.get("$push", Document.class)).containsOnlyKeys("outbox");
+    }
+
+    @Test
+    void updatesWithTheOutboxDisabledKeepSavingThroughTheRepository() {
+        mongoAdapter.updateRequest(request(4), x -> {
+            throw new AssertionError("events are not rendered while the outbox is disabled");
+        });
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(CryptoRequest.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statusCountsComeFromASingleGroupByStatusAggregation() {
+        AggregationResults<Document> results = mock(AggregationResults.class);
+        when(results.getMappedResults()).thenReturn(List.of(
+                new Document("_id", "ACTIVE").append("count", 3),
+                new Document("_id", "COMPLETED").append("count", 2L),
+                new Document("_id", "UNKNOWN").append("count", 9)
+        ));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(CryptoRequest.class), eq(Document.class))).thenReturn(results);
+
+        EnumMap<RequestStatus, Long> counts = mongoAdapter.getCountsByStatus();
+
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(CryptoRequest.class), eq(Document.class));
+        assertThat(aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT)).containsExactly(
+                new Document("$group", new Document("_id", "$status").append("count", new Document("$sum", 1)))
+        );
+        assertThat(counts).containsOnlyKeys(RequestStatus.values());
+        assertThat(counts)
+                .containsEntry(RequestStatus.ACTIVE, 3L)
+                .containsEntry(RequestStatus.COMPLETED, 2L)
+                .containsEntry(RequestStatus.CANCELLED, 0L);
+    }
+
+    @Test
+    void pagedListsAreReadAsNewestFirstSlicesWithoutACount() {
+        Slice<CryptoRequest> all = new SliceImpl<>(List.of(request(1)));
+        Slice<CryptoRequest> byStatus = new SliceImpl<>(List.of(request(2)));
+        when(cryptoRepository.findAllBy(any(Pageable.class))).thenReturn(all);
+        when(cryptoRepository.findByStatusIn(any(Pageable.class), anyList())).thenReturn(byStatus);
+        List<RequestStatus> statuses = List.of(RequestStatus.ACTIVE);
+
+        assertThat(mongoAdapter.listRequests(PageRequest.of(2, 20))).isSameAs(all);
+        assertThat(mongoAdapter.findRequestsByStatus(PageRequest.of(1, 10), statuses)).isSameAs(byStatus);
+
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdOn", "id");
+        verify(cryptoRepository).findAllBy(PageRequest.of(2, 20, newestFirst));
+        verify(cryptoRepository).findByStatusIn(PageRequest.of(1, 10, newestFirst), statuses);
+        verify(mongoTemplate, never()).count(any(Query.class), any(Class.class));
+    }
+
+    @Test
+    void pagedRepositoryQueriesReturnSlices() throws NoSuchMethodException {
+        assertThat(CryptoRepository.class.getMethod("findAllBy", Pageable.class).getReturnType()).isEqualTo(Slice.class);
+        assertThat(CryptoRepository.class.getMethod("findByStatusIn", Pageable.class, List.class).getReturnType()).isEqualTo(Slice.class);
+        assertThat(CryptoRepository.class.getMethod("findByInvesteeUserReference", Pageable.class, String.class).getReturnType()).isEqualTo(Slice.class);
+    }
+
+    @Test
+    void theFirstKeysetPageHasNoCursorPredicateAndFetchesOneExtraRow() {
+        TerminatingFind<CryptoRequest> find = stubFind(CryptoRequest.class);
+        when(find.all()).thenReturn(List.of(request(1), request(2), request(3)));
+
+        Slice<CryptoRequest> slice = mongoAdapter.listRequests((RequestCursor) null, 2);
+
+        Query query = capturedFind(CryptoRequest.class);
+        assertThat(query.getQueryObject()).isEmpty();
+        assertThat(query.getSortObject()).isEqualTo(new Document("createdOn", -1).append("id", -1));
+        assertThat(query.getLimit()).isEqualTo(3);
+        assertThat(slice.getContent()).extracting(CryptoRequest::getVersion).containsExactly(1, 2);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void laterKeysetPagesSeekPastTheCursorOnCreatedOnThenId() {
+        TerminatingFind<CryptoRequest> find = stubFind(CryptoRequest.class);
+        when(find.all()).thenReturn(List.of(request(1)));
+        RequestCursor cursor = RequestCursor.builder().createdOn("2021-09-27T12:00:00Z").id("6151b1f0c3a1f2a1b2c3d4e5").build();
+
+        Slice<CryptoRequest> slice = mongoAdapter.findRequestsByStatus(cursor, 2, List.of(RequestStatus.ACTIVE));
+
+        Query query = capturedFind(CryptoRequest.class);
+        assertThat(query.getQueryObject()).isEqualTo(new Document("status", new Document("$in", List.of(RequestStatus.ACTIVE)))
+                .append("$or", List.of(
+                        new Document("createdOn", new Document("$lt", "2021-09-27T12:00:00Z")),
+                        new Document("createdOn", "2021-09-27T12:00:00Z").append("id", new Document("$lt", "6151b1f0c3a1f2a1b2c3d4e5"))
+                )));
+        assertThat(query.getSortObject()).isEqualTo(new Document("createdOn", -1).append("id", -1));
+        assertThat(query.getLimit()).isEqualTo(3);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void userRequestListsAreReadThroughTheClosedSummaryProjection() {
+        TerminatingFind<UserRequestSummary> find = stubFind(UserRequestSummary.class);
+        when(find.all()).thenReturn(Collections.emptyList());
+
+        mongoAdapter.findByInvesteeUserReference((RequestCursor) null, 10, "user-1");
+
+        Query query = capturedFind(UserRequestSummary.class);
+        assertThat(query.getQueryObject()).isEqualTo(new Document("investee.userReference", "user-1"));
+        ProjectionInformation projection = new SpelAwareProxyProjectionFactory().getProjectionInformation(UserRequestSummary.class);
+        assertThat(projection.isClosed()).isTrue();
+        assertThat(projection.getInputProperties()).extracting(PropertyDescriptor::getName)
+                .containsExactlyInAnyOrder("id", "reference", "createdOn", "investee");
+    }
+
+    @Test
+    void pagedUserRequestListsAreReadThroughTheSummaryProjection() {
+        Slice<UserRequestSummary> summaries = new SliceImpl<>(Collections.emptyList());
+        when(cryptoRepository.findByInvesteeUserReference(any(Pageable.class), eq("user-1"))).thenReturn(summaries);
+
+        assertThat(mongoAdapter.findByInvesteeUserReference(PageRequest.of(0, 10), "user-1")).isSameAs(summaries);
+        verify(cryptoRepository).findByInvesteeUserReference(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdOn", "id")), "user-1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TerminatingFind<T> stubFind(Class<T> type) {
+        ExecutableFind<CryptoRequest> executableFind = mock(ExecutableFind.class);
+        FindWithQuery<T> findWithQuery = mock(FindWithQuery.class);
+        TerminatingFind<T> terminatingFind = mock(TerminatingFind.class);
+        when(mongoTemplate.query(CryptoRequest.class)).thenReturn(executableFind);
+        when(executableFind.as(type)).thenReturn(findWithQuery);
+        when(findWithQuery.matching(any(Query.class))).thenReturn(terminatingFind);
+        return terminatingFind;
+    }
+
+    private <T> Query capturedFind(Class<T> type) {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate.query(CryptoRequest.class).as(type)).matching(query.capture());
+        return query.getValue();
+    }
+
+    private static CryptoRequest request(int version) {
+        List<Investor> investors = new ArrayList<>();
+        investors.add(Investor.builder().reference("inv-0").build());
+        return CryptoRequest.builder()
+                .id("6151b1f0c3a1f2a1b2c3d4e5")
+                .reference("ref-1")
+                .version(version)
+                .investors(investors)
+                .build();
+    }
+
+    private static Investor investor() {
+        return Investor.builder()
+                .reference("inv-1")
+                .userReference("user-2")
+                .amount(Amount.builder().currency("USD").value("10").build())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.angularpay.crypto.domain.CryptoRequest;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.angularpay.crypto.common.Constants.INVESTORS_INDEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class MongoIndexManagerTest {
+
+    private IndexOperations indexOperations;
+    private MongoIndexManager indexManager;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        indexOperations = mock(IndexOperations.class);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.indexOps(CryptoRequest.class)).thenReturn(indexOperations);
+        indexManager = new MongoIndexManager(mongoTemplate);
+        appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(MongoIndexManager.class)).addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(MongoIndexManager.class)).detachAppender(appender);
+    }
+
+    @Test
+    void investorsIndexIsCreatedWithTheCaseInsensitiveCollation() {
+        when(indexOperations.getIndexInfo()).thenReturn(List.of());
+
+        indexManager.reconcileIndexes();
+
+        Map<String, IndexDefinition> created = created();
+        assertThat(created.get(INVESTORS_INDEX).getIndexOptions().get("collation", Document.class))
+                .containsEntry("locale", "en")
+                .containsEntry("strength", 2);
+        assertThat(created.get("created_on_id").getIndexOptions()).doesNotContainKey("collation");
+    }
+
+    @Test
+    void missingIndexesAreCreatedAndMatchingOnesAreLeftAlone() {
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                new IndexInfo(List.of(IndexField.create("_id", Sort.Direction.ASC)), "_id_", false, false, null),
+                new IndexInfo(List.of(IndexField.create("createdOn", Sort.Direction.DESC), IndexField.create("_id", Sort.Direction.DESC)),
+                        "created_on_id", false, false, null)));
+
+        indexManager.reconcileIndexes();
+
+        assertThat(created()).containsKeys("reference", "status_created_on").doesNotContainKey("created_on_id");
+        assertThat(created().get("reference").getIndexOptions()).containsEntry("unique", true);
+        assertThat(warnings()).isEmpty();
+    }
+
+    @Test
+    void driftedAndUndeclaredIndexesAreReportedWithoutBeingChanged() {
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                new IndexInfo(List.of(IndexField.create("createdOn", Sort.Direction.ASC)), "created_on_id", false, false, null),
+                new IndexInfo(List.of(IndexField.create("reference", Sort.Direction.ASC)), "reference", false, false, null),
+                new IndexInfo(List.of(IndexField.create("requestTag", Sort.Direction.ASC)), "request_tag", false, false, null)));
+
+        indexManager.reconcileIndexes();
+
+        assertThat(created()).doesNotContainKeys("created_on_id", "reference");
+        verify(indexOperations, never()).dropIndex(anyString());
+        assertThat(warnings())
+                .anyMatch(x -> x.startsWith("index created_on_id has drifted"))
+                .anyMatch(x -> x.startsWith("index reference has drifted") && x.contains("declared [reference:1] unique=true"))
+                .anyMatch(x -> x.equals("index request_tag exists but is not declared on CryptoRequest"));
+    }
+
+    @Test
+    void outboxIndexOnlyCoversDocumentsWithPendingEvents() {
+        when(indexOperations.getIndexInfo()).thenReturn(List.of());
+
+        indexManager.reconcileIndexes();
+
+        IndexDefinition outbox = created().get("outbox_created_on");
+        assertThat(outbox.getIndexKeys()).containsEntry("outbox.createdOn", 1);
+        assertThat(outbox.getIndexOptions()).containsEntry("sparse", true);
+    }
+
+    private List<String> warnings() {
+        return appender.list.stream()
+                .filter(x -> x.getLevel() == Level.WARN)
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, IndexDefinition> created() {
+        ArgumentCaptor<IndexDefinition> definitions = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, atLeastOnce()).ensureIndex(definitions.capture());
+        return definitions.getAllValues().stream()
+                .collect(Collectors.toMap(x -> x.getIndexOptions().getString("name"), Function.identity()));
+    }
+}
@@ -0,0 +1,141 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import com.mongodb.client.result.UpdateResult;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.OutboxEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final String COLLECTION = "crypto_requests";
+
+    private MongoTemplate mongoTemplate;
+    private RedisTopicPublisher redisTopicPublisher;
+    private AngularPayConfiguration.Outbox outbox;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        redisTopicPublisher = mock(RedisTopicPublisher.class);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.getCollectionName(any())).thenReturn(COLLECTION);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        outbox = new AngularPayConfiguration.Outbox();
+        outbox.setEnabled(true);
+        outbox.setBatchSize(10);
+        outbox.setLeaseMs(30000);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setOutbox(outbox);
+        relay = new OutboxRelay(mongoTemplate, redisTopicPublisher, configuration);
+    }
+
+    @Test
+    void claimedEventsArePublishedInOrderThenPulledAndTheLeaseReleased() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(claimed("request-1", event("e1", "crypto", 1L), event("e2", "crypto-ttl", 1L)))
+                .thenReturn(null);
+
+        relay.relay();
+
+        verify(redisTopicPublisher).publishBatch(List.of(
+                OutboxEvent.builder().eventId("e1").topic("crypto").payload("{}").createdOn(1L).build(),
+                OutboxEvent.builder().eventId("e2").topic("crypto-ttl").payload("{}").createdOn(1L).build()));
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(queries.capture(), updates.capture(), eq(COLLECTION));
+
+        assertThat(queries.getAllValues().get(0).getQueryObject())
+                .containsEntry("_id", "request-1")
+                .containsKey("outboxLeaseOwner");
+        Document release = updates.getAllValues().get(0).getUpdateObject();
+        assertThat(release.get("$pull", Document.class).get("outbox", Document.class).get("eventId", Document.class))
+                .containsEntry("$in", List.of("e1", "e2"));
+        assertThat(release.get("$unset", Document.class)).containsKeys("outboxLeaseUntil", "outboxLeaseOwner");
+
+        assertThat(queries.getAllValues().get(1).getQueryObject()).containsKey("outbox");
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$unset", Document.class)).containsKey("outbox");
+    }
+
+    @Test
+    void publishedEventsArePulledEvenWhenTheLeaseWasTakenOver() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(claimed("request-1", event("e1", "crypto", 1L)))
+                .thenReturn(null);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        relay.relay();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(3)).updateFirst(queries.capture(), updates.capture(), eq(COLLECTION));
+        assertThat(queries.getAllValues().get(1).getQueryObject()).doesNotContainKey("outboxLeaseOwner");
+        assertThat(updates.getAllValues().get(1).getUpdateObject()).containsKey("$pull").doesNotContainKey("$unset");
+    }
+
+    @Test
+    void eventsStayInTheOutboxWhenPublishingFails() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(claimed("request-1", event("e1", "crypto", 1L)));
+        doThrow(new IllegalStateException("redis is down")).when(redisTopicPublisher).publishBatch(anyList());
+
+        relay.relay();
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), anyString());
+    }
+
+    @Test
+    void relayStopsAfterTheBatchSize() {
+        outbox.setBatchSize(2);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(claimed("request-1", event("e1", "crypto", 1L)))
+                .thenReturn(claimed("request-2", event("e2", "crypto", 2L)))
+                .thenReturn(claimed("request-3", event("e3", "crypto", 3L)));
+
+        relay.relay();
+
+        verify(redisTopicPublisher, times(2)).publishBatch(anyList());
+    }
+
+    @Test
+    void nothingIsClaimedWhileTheOutboxIsDisabled() {
+        outbox.setEnabled(false);
+
+        relay.relay();
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), any(Class.class), anyString());
+        verifyNoInteractions(redisTopicPublisher);
+    }
+
+    private static Document claimed(String id, Document... events) {
+        return new Document("_id", id).append("outbox", List.of(events));
+    }
+
+    private static Document event(String eventId, String topic, long createdOn) {
+        return new Document("eventId", eventId)
+                .append("topic", topic)
+                .append("payload", "{}")
+                .append("createdOn", createdOn);
+    }
+}
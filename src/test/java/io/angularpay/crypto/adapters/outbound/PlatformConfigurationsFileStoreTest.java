@@ -0,0 +1,76 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_BANKS;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_COUNTRIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlatformConfigurationsFileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedValuesAreRestoredPerIdentifier() {
+        PlatformConfigurationsFileStore store = storeIn(directory.resolve("platform").toString());
+
+        store.save(PLATFORM_BANKS, "[{\"name\":\"bank\"}]");
+        store.save(PLATFORM_COUNTRIES, "[{\"code\":\"NG\"}]");
+
+        PlatformConfigurationsFileStore restarted = storeIn(directory.resolve("platform").toString());
+        assertThat(restarted.load(PLATFORM_BANKS)).contains("[{\"name\":\"bank\"}]");
+        assertThat(restarted.load(PLATFORM_COUNTRIES)).contains("[{\"code\":\"NG\"}]");
+    }
+
+    @Test
+    void saveReplacesThePreviousValueWithoutLeavingTemporaryFiles() throws IOException {
+        PlatformConfigurationsFileStore store = storeIn(directory.toString());
+
+        store.save(PLATFORM_BANKS, "[1]");
+        store.save(PLATFORM_BANKS, "[2]");
+
+        assertThat(store.load(PLATFORM_BANKS)).contains("[2]");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactly(PLATFORM_BANKS.getHashField() + ".json");
+        }
+    }
+
+    @Test
+    void missingOrBlankFilesRestoreNothing() throws IOException {
+        PlatformConfigurationsFileStore store = storeIn(directory.toString());
+        Files.writeString(directory.resolve(PLATFORM_COUNTRIES.getHashField() + ".json"), "  ", StandardCharsets.UTF_8);
+
+        assertThat(store.load(PLATFORM_BANKS)).isEmpty();
+        assertThat(store.load(PLATFORM_COUNTRIES)).isEmpty();
+    }
+
+    @Test
+    void storeIsDisabledWithoutACacheDirectory() throws IOException {
+        PlatformConfigurationsFileStore store = storeIn(null);
+
+        store.save(PLATFORM_BANKS, "[1]");
+
+        assertThat(store.load(PLATFORM_BANKS)).isEmpty();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static PlatformConfigurationsFileStore storeIn(String cacheDirectory) {
+        AngularPayConfiguration.Platform platform = new AngularPayConfiguration.Platform();
+        platform.setCacheDirectory(cacheDirectory);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setPlatform(platform);
+        return new PlatformConfigurationsFileStore(configuration);
+    }
+}
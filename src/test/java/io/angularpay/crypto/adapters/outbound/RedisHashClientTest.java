@@ -0,0 +1,174 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RedisHashClientTest {
+
+    private static final String COUNTERS = "crypto-status-counters";
+
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+    private HashOperations<String, Object, Object> hashOperations;
+    private ValueOperations<String, String> valueOperations;
+    private RedisHashClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        client = new RedisHashClient(new ScriptingTemplate());
+    }
+
+    @Test
+    void hashReadsGoThroughTheStringTemplate() {
+        when(hashOperations.get("platform-configurations", "banks")).thenReturn("[]");
+        when(hashOperations.entries(COUNTERS)).thenReturn(Map.of("epoch", "1"));
+
+        assertThat(client.getPlatformConfiguration("platform-configurations", "banks")).isEqualTo("[]");
+        assertThat(client.getStatusCounters(COUNTERS)).containsEntry("epoch", "1");
+    }
+
+    @Test
+    void incrementsAreAppliedInTheCurrentEpoch() {
+        hashes.put(COUNTERS, new HashMap<>(Map.of("epoch", "3", "ACTIVE", "10")));
+
+        assertThat(client.incrementStatusCounters(COUNTERS, "3", ordered("ACTIVE", -1L, "COMPLETED", 1L))).isTrue();
+
+        assertThat(hashes.get(COUNTERS)).containsEntry("ACTIVE", "9").containsEntry("COMPLETED", "1").containsEntry("epoch", "3");
+    }
+
+    @Test
+    void incrementsFromAStaleOrMissingEpochAreRejected() {
+        hashes.put(COUNTERS, new HashMap<>(Map.of("epoch", "4", "ACTIVE", "10")));
+
+        assertThat(client.incrementStatusCounters(COUNTERS, "3", Map.of("ACTIVE", 1L))).isFalse();
+        assertThat(client.incrementStatusCounters("missing", "3", Map.of("ACTIVE", 1L))).isFalse();
+
+        assertThat(hashes.get(COUNTERS)).containsEntry("ACTIVE", "10");
+        assertThat(hashes).doesNotContainKey("missing");
+    }
+
+    @Test
+    void resetStartsANewEpochAndOverwritesTheCounts() {
+        hashes.put(COUNTERS, new HashMap<>(Map.of("epoch", "4", "ACTIVE", "10", "COMPLETED", "3")));
+
+        assertThat(client.resetStatusCounters(COUNTERS, ordered("ACTIVE", 7L, "COMPLETED", 2L))).isEqualTo(5L);
+        assertThat(client.resetStatusCounters("fresh", Map.of("ACTIVE", 1L))).isEqualTo(1L);
+
+        assertThat(hashes.get(COUNTERS)).containsEntry("epoch", "5").containsEntry("ACTIVE", "7").containsEntry("COMPLETED", "2");
+        assertThat(client.incrementStatusCounters(COUNTERS, "4", Map.of("ACTIVE", 1L))).isFalse();
+    }
+
+    @Test
+    void locksExpireAndAreOnlyReleasedByTheirOwner() {
+        when(valueOperations.setIfAbsent("lock", "owner-1", Duration.ofMillis(1000))).thenReturn(true);
+        values.put("lock", "owner-1");
+
+        assertThat(client.acquireLock("lock", "owner-1", 1000)).isTrue();
+        assertThat(client.acquireLock("lock", "owner-2", 1000)).isFalse();
+
+        client.releaseLock("lock", "owner-2");
+        assertThat(values).containsEntry("lock", "owner-1");
+        client.releaseLock("lock", "owner-1");
+        assertThat(values).doesNotContainKey("lock");
+    }
+
+    private static Map<String, Long> ordered(String field1, long value1, String field2, long value2) {
+        Map<String, Long> fields = new LinkedHashMap<>();
+        fields.put(field1, value1);
+        fields.put(field2, value2);
+        return fields;
+    }
+
+    private class ScriptingTemplate extends StringRedisTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+            return (HashOperations<String, HK, HV>) (HashOperations<String, ?, ?>) hashOperations;
+        }
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return valueOperations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            Globals globals = JsePlatform.standardGlobals();
+            LuaTable redis = new LuaTable();
+            redis.set("call", new RedisCall());
+            globals.set("redis", redis);
+            globals.set("KEYS", table(keys.toArray()));
+            globals.set("ARGV", table(args));
+            LuaValue result = globals.load(script.getScriptAsString()).call();
+            return (T) Long.valueOf(result.tolong());
+        }
+
+        private LuaTable table(Object[] items) {
+            LuaTable table = new LuaTable();
+            for (int i = 0; i < items.length; i++) {
+                table.set(i + 1, LuaValue.valueOf(String.valueOf(items[i])));
+            }
+            return table;
+        }
+    }
+
+    private class RedisCall extends VarArgFunction {
+
+        @Override
+        public Varargs invoke(Varargs args) {
+            String command = args.checkjstring(1);
+            String key = args.checkjstring(2);
+            Map<String, String> hash = hashes.computeIfAbsent(key, x -> new HashMap<>());
+            try {
+                switch (command) {
+                    case "HGET":
+                        return orFalse(hash.get(args.checkjstring(3)));
+                    case "HINCRBY":
+                        long incremented = Long.parseLong(hash.getOrDefault(args.checkjstring(3), "0")) + Long.parseLong(args.checkjstring(4));
+                        hash.put(args.checkjstring(3), String.valueOf(incremented));
+                        return LuaValue.valueOf((double) incremented);
+                    case "HSET":
+                        hash.put(args.checkjstring(3), args.checkjstring(4));
+                        return LuaValue.ONE;
+                    case "GET":
+                        return orFalse(values.get(key));
+                    case "DEL":
+                        return LuaValue.valueOf(Objects.isNull(values.remove(key)) ? 0 : 1);
+                    default:
+                        throw new UnsupportedOperationException(command);
+                }
+            } finally {
+                if (hash.isEmpty()) hashes.remove(key);
+            }
+        }
+
+        private LuaValue orFalse(String value) {
+            return Objects.isNull(value) ? LuaValue.FALSE : LuaValue.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RedisTopicPublisherTest {
+
+    private StringRedisTemplate template;
+    private RedisConnection connection;
+    private AngularPayConfiguration configuration;
+    private RedisTopicPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        template = mock(StringRedisTemplate.class);
+        connection = mock(RedisConnection.class);
+        when(template.getStringSerializer()).thenReturn(RedisSerializer.string());
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        AngularPayConfiguration.Redis.Publisher settings = new AngularPayConfiguration.Redis.Publisher();
+        settings.setBatchSize(10);
+        settings.setWindowMs(5);
+        settings.setQueueCapacity(1);
+        settings.setEnqueueTimeoutMs(50);
+        settings.setShutdownTimeoutSeconds(1);
+        AngularPayConfiguration.Redis redis = new AngularPayConfiguration.Redis();
+        redis.setPublisher(settings);
+        AngularPayConfiguration.Messaging messaging = new AngularPayConfiguration.Messaging();
+        messaging.setStreamMaxLength(1000);
+        configuration = new AngularPayConfiguration();
+        configuration.setRedis(redis);
+        configuration.setMessaging(messaging);
+
+        publisher = new RedisTopicPublisher(template, new ChannelTopic("updates"), new ChannelTopic("updates-delta"),
+                new ChannelTopic("ttl"), new ChannelTopic("user-notifications"), configuration, new SimpleMeterRegistry());
+        publisher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.stop();
+    }
+
+    @Test
+    void pubSubPayloadsArePublishedUnchanged() {
+        publisher.publishTTL("{\"reference\":\"r1\"}");
+
+        verify(connection, timeout(1000)).publish(bytes("ttl"), bytes("{\"reference\":\"r1\"}"));
+        verifyNoMoreInteractions(connection);
+    }
+
+    @Test
+    void messagesArePublishedDirectlyWhenTheQueueStaysFull() throws InterruptedException {
+        CountDownLatch flusherBusy = new CountDownLatch(1);
+        CountDownLatch releaseFlusher = new CountDownLatch(1);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("redis-topic-publisher")) {
+                flusherBusy.countDown();
+                releaseFlusher.await(5, TimeUnit.SECONDS);
+            }
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        publisher.publishTTL("first");
+        assertThat(flusherBusy.await(1, TimeUnit.SECONDS)).isTrue();
+        publisher.publishTTL("queued");
+        publisher.publishTTL("overflow");
+
+        verify(connection).publish(bytes("ttl"), bytes("overflow"));
+        verify(connection, never()).publish(bytes("ttl"), bytes("queued"));
+
+        releaseFlusher.countDown();
+        verify(connection, timeout(1000)).publish(bytes("ttl"), bytes("first"));
+        verify(connection, timeout(1000)).publish(bytes("ttl"), bytes("queued"));
+    }
+
+    @Test
+    void streamsTransportAddsTrimmedEntriesAndKeepsTheUpdatesChannelsOnPubSub() throws InterruptedException {
+        restartWith(AngularPayConfiguration.Transport.STREAMS);
+
+        publisher.publishTTL("ttl-payload");
+        publisher.publishUpdates("updates-payload");
+        publisher.publishUpdatesDelta("delta-payload");
+
+        verify(connection, timeout(1000)).publish(bytes("updates"), bytes("updates-payload"));
+        verify(connection, timeout(1000)).publish(bytes("updates-delta"), bytes("delta-payload"));
+        verify(connection, never()).publish(eq(bytes("ttl")), any());
+        assertThat(streamEntries(3)).containsExactly(
+                List.of("ttl", "MAXLEN", "~", "1000", "*", "payload", "ttl-payload"),
+                List.of("updates", "MAXLEN", "~", "1000", "*", "payload", "updates-payload"),
+                List.of("updates-delta", "MAXLEN", "~", "1000", "*", "payload", "delta-payload"));
+    }
+
+    @Test
+    void outboxEventsCarryTheirEventIdAsAStreamField() throws InterruptedException {
+        restartWith(AngularPayConfiguration.Transport.BOTH);
+
+        publisher.publishBatch(List.of(OutboxEvent.builder().eventId("e1").topic("ttl").payload("{}").createdOn(1L).build()));
+
+        verify(connection).publish(bytes("ttl"), bytes("{}"));
+        assertThat(streamEntries(1)).containsExactly(
+                List.of("ttl", "MAXLEN", "~", "1000", "*", "event_id", "e1", "payload", "{}"));
+    }
+
+    private void restartWith(AngularPayConfiguration.Transport transport) throws InterruptedException {
+        publisher.stop();
+        configuration.getMessaging().setTransport(transport);
+        publisher.start();
+    }
+
+    private List<List<String>> streamEntries(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (xadds().size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return xadds();
+    }
+
+    private List<List<String>> xadds() {
+        return mockingDetails(connection).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("execute"))
+                .filter(invocation -> "XADD".equals(invocation.getArgument(0)))
+                .map(invocation -> Arrays.stream(invocation.getRawArguments(), 1, invocation.getRawArguments().length)
+                        .flatMap(argument -> argument instanceof byte[][] ? Arrays.stream((byte[][]) argument) : Stream.of((byte[]) argument))
+                        .map(argument -> new String(argument, StandardCharsets.UTF_8))
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
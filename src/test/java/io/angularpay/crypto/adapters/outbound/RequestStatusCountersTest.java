@@ -0,0 +1,120 @@
+package io.angularpay.crypto.adapters.outbound;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.RequestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static io.angularpay.crypto.common.Constants.STATUS_COUNTERS_HASH;
+import static io.angularpay.crypto.common.Constants.STATUS_COUNTERS_LOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RequestStatusCountersTest {
+
+    private MongoAdapter mongoAdapter;
+    private RedisAdapter redisAdapter;
+    private RequestStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        mongoAdapter = mock(MongoAdapter.class);
+        redisAdapter = mock(RedisAdapter.class);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        AngularPayConfiguration.Statistics statistics = new AngularPayConfiguration.Statistics();
+        statistics.setReconcileLockTtlMs(1000);
+        configuration.setStatistics(statistics);
+        counters = new RequestStatusCounters(mongoAdapter, redisAdapter, configuration);
+    }
+
+    @Test
+    void flushAppliesPendingDeltasInTheObservedEpoch() {
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH)).thenReturn(Map.of("epoch", "3", "ACTIVE", "10"));
+        counters.flush();
+
+        counters.onCreated(RequestStatus.ACTIVE);
+        counters.onStatusChanged(RequestStatus.ACTIVE, RequestStatus.COMPLETED);
+        counters.onCreated(RequestStatus.ACTIVE);
+        when(redisAdapter.incrementStatusCounters(eq(STATUS_COUNTERS_HASH), eq("3"), anyMap())).thenReturn(true);
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH))
+                .thenReturn(Map.of("epoch", "3", "ACTIVE", "11", "COMPLETED", "1"));
+        counters.flush();
+
+        verify(redisAdapter).incrementStatusCounters(STATUS_COUNTERS_HASH, "3", Map.of("ACTIVE", 1L, "COMPLETED", 1L));
+        assertThat(counters.getCountsByStatus())
+                .containsEntry(RequestStatus.ACTIVE, 11L)
+                .containsEntry(RequestStatus.COMPLETED, 1L);
+    }
+
+    @Test
+    void deltasRejectedByANewerEpochAreDiscardedInsteadOfDoubleCounted() {
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH)).thenReturn(Map.of("epoch", "3", "ACTIVE", "10"));
+        counters.flush();
+
+        counters.onCreated(RequestStatus.ACTIVE);
+        when(redisAdapter.incrementStatusCounters(eq(STATUS_COUNTERS_HASH), eq("3"), anyMap())).thenReturn(false);
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH)).thenReturn(Map.of("epoch", "4", "ACTIVE", "11"));
+        counters.flush();
+        counters.flush();
+
+        verify(redisAdapter, times(1)).incrementStatusCounters(anyString(), anyString(), anyMap());
+        assertThat(counters.getCountsByStatus()).containsEntry(RequestStatus.ACTIVE, 11L);
+    }
+
+    @Test
+    void reconcileResetsTheCountersUnderTheLockAndStartsANewEpoch() {
+        EnumMap<RequestStatus, Long> recount = new EnumMap<>(RequestStatus.class);
+        recount.put(RequestStatus.ACTIVE, 7L);
+        recount.put(RequestStatus.INACTIVE, 0L);
+        recount.put(RequestStatus.COMPLETED, 2L);
+        recount.put(RequestStatus.CANCELLED, 0L);
+        when(redisAdapter.acquireLock(eq(STATUS_COUNTERS_LOCK), anyString(), eq(1000L))).thenReturn(true);
+        when(mongoAdapter.getCountsByStatus()).thenReturn(recount);
+        when(redisAdapter.resetStatusCounters(eq(STATUS_COUNTERS_HASH), anyMap())).thenReturn(5L);
+
+        counters.onCreated(RequestStatus.ACTIVE);
+        counters.reconcile();
+
+        verify(redisAdapter).resetStatusCounters(STATUS_COUNTERS_HASH,
+                Map.of("ACTIVE", 7L, "INACTIVE", 0L, "COMPLETED", 2L, "CANCELLED", 0L));
+        verify(redisAdapter).releaseLock(eq(STATUS_COUNTERS_LOCK), anyString());
+        assertThat(counters.getCountsByStatus()).containsEntry(RequestStatus.ACTIVE, 7L);
+
+        counters.onCreated(RequestStatus.ACTIVE);
+        when(redisAdapter.incrementStatusCounters(eq(STATUS_COUNTERS_HASH), eq("5"), anyMap())).thenReturn(true);
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH)).thenReturn(Map.of("epoch", "5", "ACTIVE", "8"));
+        counters.flush();
+        verify(redisAdapter).incrementStatusCounters(STATUS_COUNTERS_HASH, "5", Map.of("ACTIVE", 1L));
+    }
+
+    @Test
+    void reconcileIsSkippedWhenAnotherInstanceHoldsTheLock() {
+        when(redisAdapter.acquireLock(eq(STATUS_COUNTERS_LOCK), anyString(), anyLong())).thenReturn(false);
+
+        counters.reconcile();
+
+        verifyNoInteractions(mongoAdapter);
+        verify(redisAdapter, never()).resetStatusCounters(anyString(), anyMap());
+        verify(redisAdapter, never()).releaseLock(anyString(), anyString());
+    }
+
+    @Test
+    void readsOnlyUseTheInMemoryCountsSeededAtStartup() {
+        counters.onCreated(RequestStatus.ACTIVE);
+        assertThat(counters.getCountsByStatus()).containsEntry(RequestStatus.ACTIVE, 1L);
+        verifyNoInteractions(redisAdapter, mongoAdapter);
+
+        when(redisAdapter.getStatusCounters(STATUS_COUNTERS_HASH)).thenReturn(Map.of("epoch", "2", "ACTIVE", "4"));
+        counters.seed();
+        reset(redisAdapter);
+
+        assertThat(counters.getCountsByStatus())
+                .containsEntry(RequestStatus.ACTIVE, 4L)
+                .containsEntry(RequestStatus.CANCELLED, 0L);
+        verifyNoInteractions(redisAdapter, mongoAdapter);
+    }
+}
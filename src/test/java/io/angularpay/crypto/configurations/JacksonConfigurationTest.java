@@ -0,0 +1,81 @@
+package io.angularpay.crypto.configurations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.angularpay.crypto.domain.*;
+import io.angularpay.crypto.helpers.CryptoRequestPayload;
+import io.angularpay.crypto.models.GenericCommandResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.angularpay.crypto.helpers.Helper.writeAsStringOrDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigurationTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JacksonConfiguration().prerenderedCryptoRequestModule());
+
+    @Test
+    void responseWrittenWithThePayloadMatchesPlainSerialization() throws Exception {
+        CryptoRequest request = cryptoRequest();
+        GenericCommandResponse response = response(request);
+
+        String plain = new ObjectMapper().writeValueAsString(response);
+        String reused = writeAsStringOrDefault(mapper, response, new CryptoRequestPayload(mapper, request, "UpdateAmountCommand"));
+
+        assertThat(reused).isEqualTo(plain);
+        assertThat(mapper.writeValueAsString(response)).isEqualTo(plain);
+    }
+
+    @Test
+    void renderedJsonOfTheSameRequestIsReused() {
+        CryptoRequest request = cryptoRequest();
+        ObjectMapper indenting = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        String reused = writeAsStringOrDefault(mapper, response(request), new CryptoRequestPayload(indenting, request, "UpdateAmountCommand"));
+
+        assertThat(reused).contains("\n  \"reference\" : \"ref-1\"");
+    }
+
+    @Test
+    void payloadOfAnotherRequestIsIgnored() throws Exception {
+        CryptoRequest request = cryptoRequest();
+        CryptoRequest other = request.toBuilder().reference("ref-2").build();
+        GenericCommandResponse response = response(request);
+
+        String written = writeAsStringOrDefault(mapper, response, new CryptoRequestPayload(mapper, other, "UpdateAmountCommand"));
+
+        assertThat(written).isEqualTo(new ObjectMapper().writeValueAsString(response)).doesNotContain("ref-2");
+    }
+
+    private static GenericCommandResponse response(CryptoRequest request) {
+        return GenericCommandResponse.builder()
+                .requestReference(request.getReference())
+                .itemReference("item-1")
+                .cryptoRequest(request)
+                .changes(Map.of("amount", request.getAmount()))
+                .build();
+    }
+
+    private static CryptoRequest cryptoRequest() {
+        return CryptoRequest.builder()
+                .id("6151b1f0c3a1f2a1b2c3d4e5")
+                .version(3)
+                .reference("ref-1")
+                .serviceCode("CTO")
+                .amount(Amount.builder().currency("USD").value("100").build())
+                .investee(Investee.builder().userReference("user-1").build())
+                .investors(List.of(Investor.builder()
+                        .reference("inv-1")
+                        .userReference("user-2")
+                        .amount(Amount.builder().currency("USD").value("40").build())
+                        .build()))
+                .status(RequestStatus.ACTIVE)
+                .createdOn("2021-09-27T10:00:00Z")
+                .lastModified("2021-09-27T10:05:00Z")
+                .build();
+    }
+}
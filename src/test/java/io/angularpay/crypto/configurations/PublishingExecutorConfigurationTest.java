@@ -0,0 +1,105 @@
+package io.angularpay.crypto.configurations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.angularpay.crypto.configurations.PublishingExecutorConfiguration.PUBLISHING_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublishingExecutorConfigurationTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void callerRunsWhenSaturatedByDefault() throws InterruptedException {
+        executor = saturated(null);
+
+        executor.execute(() -> ran.add(Thread.currentThread().getName()));
+
+        assertThat(ran).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void abortRejectsWhenSaturated() throws InterruptedException {
+        executor = saturated(AngularPayConfiguration.RejectionPolicy.ABORT);
+
+        assertThatThrownBy(() -> executor.execute(() -> ran.add("rejected"))).isInstanceOf(TaskRejectedException.class);
+    }
+
+    @Test
+    void discardDropsTheNewTaskWhenSaturated() throws InterruptedException {
+        executor = saturated(AngularPayConfiguration.RejectionPolicy.DISCARD);
+
+        executor.execute(() -> ran.add("discarded"));
+        drain();
+
+        assertThat(ran).containsExactly("queued");
+    }
+
+    @Test
+    void discardOldestDropsTheQueuedTaskWhenSaturated() throws InterruptedException {
+        executor = saturated(AngularPayConfiguration.RejectionPolicy.DISCARD_OLDEST);
+
+        executor.execute(() -> ran.add("newest"));
+        drain();
+
+        assertThat(ran).containsExactly("newest");
+    }
+
+    @Test
+    void executorMetricsAreRegisteredUnderTheBeanName() throws InterruptedException {
+        executor = saturated(AngularPayConfiguration.RejectionPolicy.ABORT);
+
+        assertThat(meterRegistry.get("executor.queued").tag("name", PUBLISHING_EXECUTOR).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("executor.active").tag("name", PUBLISHING_EXECUTOR).gauge().value()).isEqualTo(1.0);
+    }
+
+    private ThreadPoolTaskExecutor saturated(AngularPayConfiguration.RejectionPolicy policy) throws InterruptedException {
+        AngularPayConfiguration.Publishing publishing = new AngularPayConfiguration.Publishing();
+        publishing.setCorePoolSize(1);
+        publishing.setMaxPoolSize(1);
+        publishing.setQueueCapacity(1);
+        publishing.setAwaitTerminationSeconds(1);
+        if (policy != null) publishing.setRejectionPolicy(policy);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setPublishing(publishing);
+        ThreadPoolTaskExecutor created = new PublishingExecutorConfiguration().publishingExecutor(configuration, meterRegistry);
+
+        CountDownLatch busy = new CountDownLatch(1);
+        created.execute(() -> {
+            busy.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(busy.await(1, TimeUnit.SECONDS)).isTrue();
+        created.execute(() -> ran.add("queued"));
+        return created;
+    }
+
+    private void drain() throws InterruptedException {
+        release.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
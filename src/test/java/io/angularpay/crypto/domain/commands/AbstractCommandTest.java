@@ -0,0 +1,64 @@
+package io.angularpay.crypto.domain.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.Role;
+import io.angularpay.crypto.exceptions.ErrorObject;
+import io.angularpay.crypto.helpers.NotificationFanOut;
+import io.angularpay.crypto.models.GetStatisticsCommandRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AbstractCommandTest {
+
+    @Test
+    void aCommandWithoutItsPublishingExecutorFailsAtStartup() {
+        assertThatThrownBy(() -> new NoOpCommand().verifyPublishingCollaborators())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NoOpCommand");
+    }
+
+    @Test
+    void aFullyWiredCommandStarts() {
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setOutbox(new AngularPayConfiguration.Outbox());
+        NoOpCommand command = new NoOpCommand();
+        command.setPublishingExecutor(Runnable::run, configuration);
+        command.setNotificationFanOut(mock(NotificationFanOut.class));
+
+        assertThatCode(command::verifyPublishingCollaborators).doesNotThrowAnyException();
+    }
+
+    private static class NoOpCommand extends AbstractCommand<GetStatisticsCommandRequest, String> {
+
+        NoOpCommand() {
+            super("NoOpCommand", new ObjectMapper());
+        }
+
+        @Override
+        protected String getResourceOwner(GetStatisticsCommandRequest request) {
+            return "";
+        }
+
+        @Override
+        protected String handle(GetStatisticsCommandRequest request) {
+            return "";
+        }
+
+        @Override
+        protected List<ErrorObject> validate(GetStatisticsCommandRequest request) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<Role> permittedRoles() {
+            return Collections.emptyList();
+        }
+    }
+}
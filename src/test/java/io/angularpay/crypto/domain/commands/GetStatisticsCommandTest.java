@@ -0,0 +1,37 @@
+package io.angularpay.crypto.domain.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.adapters.outbound.RequestStatusCounters;
+import io.angularpay.crypto.domain.RequestStatus;
+import io.angularpay.crypto.models.GetStatisticsCommandRequest;
+import io.angularpay.crypto.models.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetStatisticsCommandTest {
+
+    @Test
+    void statisticsKeepTheirFixedRowsAndNames() {
+        RequestStatusCounters counters = mock(RequestStatusCounters.class);
+        EnumMap<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        counts.put(RequestStatus.ACTIVE, 5L);
+        counts.put(RequestStatus.COMPLETED, 2L);
+        when(counters.getCountsByStatus()).thenReturn(counts);
+        GetStatisticsCommand command = new GetStatisticsCommand(new ObjectMapper(), counters);
+
+        assertThat(command.handle(GetStatisticsCommandRequest.builder().build()))
+                .extracting(Statistics::getName, Statistics::getValue)
+                .containsExactly(
+                        tuple("Total", "7"),
+                        tuple("Active", "5"),
+                        tuple("Inactive", "0"),
+                        tuple("Completed", "2"),
+                        tuple("Cancelled", "0"));
+    }
+}
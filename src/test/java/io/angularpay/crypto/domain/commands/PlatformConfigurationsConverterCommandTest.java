@@ -0,0 +1,149 @@
+package io.angularpay.crypto.domain.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.models.platform.PlatformBank;
+import io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier;
+import io.angularpay.crypto.models.platform.PlatformConfigurations;
+import io.angularpay.crypto.ports.outbound.PlatformConfigurationsStorePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.angularpay.crypto.models.platform.PlatformConfigurationIdentifier.PLATFORM_BANKS;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.DISK;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.HASH;
+import static io.angularpay.crypto.models.platform.PlatformConfigurationSource.TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PlatformConfigurationsConverterCommandTest {
+
+    private static final String BANKS = "[{\"name\":\"First Bank\",\"swift_code\":\"FBNINGLA\"}]";
+
+    private PlatformConfigurations platformConfigurations;
+    private PlatformConfigurationsStorePort storePort;
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformConfigurationsConverterCommand command;
+
+    @BeforeEach
+    void setUp() {
+        platformConfigurations = new PlatformConfigurations();
+        storePort = mock(PlatformConfigurationsStorePort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        command = new PlatformConfigurationsConverterCommand(platformConfigurations, new ObjectMapper(), storePort, meterRegistry);
+    }
+
+    @Test
+    void unchangedContentIsSkippedAfterTheFirstApply() {
+        command.execute(BANKS, PLATFORM_BANKS, TOPIC);
+        command.execute(BANKS, PLATFORM_BANKS, TOPIC);
+
+        assertThat(platformConfigurations.getPlatformBanks()).hasSize(1);
+        assertThat(platformConfigurations.getPlatformBanks().get(0).getSwiftCode()).isEqualTo("FBNINGLA");
+        verify(storePort, times(1)).save(PLATFORM_BANKS, BANKS);
+        assertThat(count(PLATFORM_BANKS, "applied")).isEqualTo(1.0);
+        assertThat(count(PLATFORM_BANKS, "skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    void changedContentIsAppliedAgain() {
+        command.execute(BANKS, PLATFORM_BANKS, TOPIC);
+        command.execute("[]", PLATFORM_BANKS, TOPIC);
+
+        assertThat(platformConfigurations.getPlatformBanks()).isEmpty();
+        assertThat(count(PLATFORM_BANKS, "applied")).isEqualTo(2.0);
+        assertThat(count(PLATFORM_BANKS, "skipped")).isEqualTo(0.0);
+    }
+
+    @Test
+    void diskValuesAreNotPersistedAndDoNotOverrideATopicValue() {
+        command.execute(BANKS, PLATFORM_BANKS, DISK);
+        assertThat(command.isApplied(PLATFORM_BANKS)).isFalse();
+
+        command.execute("[]", PLATFORM_BANKS, TOPIC);
+        command.execute(BANKS, PLATFORM_BANKS, DISK);
+
+        assertThat(command.isApplied(PLATFORM_BANKS)).isTrue();
+        assertThat(platformConfigurations.getPlatformBanks()).isEmpty();
+        verify(storePort, never()).save(any(), eq(BANKS));
+        assertThat(count(PLATFORM_BANKS, "applied")).isEqualTo(2.0);
+    }
+
+    @Test
+    void aFailedApplyDoesNotRecordTheContentHash() {
+        assertThatThrownBy(() -> command.execute("not json", PLATFORM_BANKS, TOPIC)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> command.execute("not json", PLATFORM_BANKS, TOPIC)).isInstanceOf(RuntimeException.class);
+
+        verify(storePort, never()).save(any(), anyString());
+        assertThat(count(PLATFORM_BANKS, "applied")).isEqualTo(0.0);
+        assertThat(count(PLATFORM_BANKS, "skipped")).isEqualTo(0.0);
+    }
+
+    @Test
+    void aTopicValueArrivingWhileAHashValueIsAppliedWinsOverIt() throws Exception {
+        CountDownLatch hashApplying = new CountDownLatch(1);
+        CountDownLatch releaseHash = new CountDownLatch(1);
+        PlatformConfigurations blocking = new PlatformConfigurations() {
+            @Override
+            public void setPlatformBanks(List<PlatformBank> platformBanks) {
+                if (!platformBanks.isEmpty()) {
+                    hashApplying.countDown();
+                    await(releaseHash);
+                }
+                super.setPlatformBanks(platformBanks);
+            }
+        };
+        command = new PlatformConfigurationsConverterCommand(blocking, new ObjectMapper(), storePort, meterRegistry);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> hash = threads.submit(() -> command.execute(BANKS, PLATFORM_BANKS, HASH));
+            assertThat(hashApplying.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<?> topic = threads.submit(() -> command.execute("[]", PLATFORM_BANKS, TOPIC));
+
+            assertThatThrownBy(() -> topic.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            releaseHash.countDown();
+            hash.get(1, TimeUnit.SECONDS);
+            topic.get(1, TimeUnit.SECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertThat(blocking.getPlatformBanks()).isEmpty();
+    }
+
+    @Test
+    void aHashValueReadBeforeATopicValueIsNotAppliedAfterIt() {
+        command.execute("[]", PLATFORM_BANKS, TOPIC);
+        command.execute(BANKS, PLATFORM_BANKS, HASH);
+
+        assertThat(platformConfigurations.getPlatformBanks()).isEmpty();
+        verify(storePort, never()).save(PLATFORM_BANKS, BANKS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(PlatformConfigurationIdentifier identifier, String outcome) {
+        return meterRegistry.get("crypto.platform.configurations.updates")
+                .tag("identifier", identifier.getHashField())
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
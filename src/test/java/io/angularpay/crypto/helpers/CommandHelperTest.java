@@ -0,0 +1,99 @@
+package io.angularpay.crypto.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.angularpay.crypto.adapters.outbound.MongoAdapter;
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import io.angularpay.crypto.domain.CryptoRequest;
+import io.angularpay.crypto.domain.OutboxEvent;
+import io.angularpay.crypto.exceptions.CommandException;
+import io.angularpay.crypto.models.CursorSlice;
+import io.angularpay.crypto.models.GenericCommandResponse;
+import io.angularpay.crypto.models.RequestCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.angularpay.crypto.exceptions.ErrorCode.INVALID_CURSOR_ERROR;
+import static io.angularpay.crypto.helpers.CommandHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommandHelperTest {
+
+    @Test
+    void outboxEventsAreRenderedFromTheResponseOfTheProspectiveRequest() {
+        MongoAdapter mongoAdapter = mock(MongoAdapter.class);
+        CommandHelper commandHelper = new CommandHelper(mongoAdapter, new ObjectMapper(), new AngularPayConfiguration());
+        CryptoRequest found = CryptoRequest.builder().reference("r1").version(3).build();
+        CryptoRequest saved = found.toBuilder().version(4).build();
+        when(mongoAdapter.updateRequest(eq(found), any())).thenAnswer(invocation -> {
+            Function<CryptoRequest, List<OutboxEvent>> outbox = invocation.getArgument(1);
+            assertThat(outbox.apply(found)).extracting(OutboxEvent::getEventId).containsExactly("r1");
+            return saved;
+        });
+
+        GenericCommandResponse response = commandHelper.updateRequest(found,
+                rendered -> List.of(OutboxEvent.builder().eventId(rendered.getCryptoRequest().getReference()).build()),
+                request -> GenericCommandResponse.builder().requestReference(request.getReference()).cryptoRequest(request).build());
+
+        assertThat(response.getCryptoRequest()).isSameAs(saved);
+        verify(mongoAdapter).updateRequest(eq(found), any());
+    }
+
+    @Test
+    void cursorRoundTripsCreatedOnAndId() {
+        String cursor = encodeCursor("2021-09-27T10:00:00Z", "6151b1f0c3a1f2a1b2c3d4e5");
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(decodeCursorOrThrow(cursor))
+                .isEqualTo(new RequestCursor("2021-09-27T10:00:00Z", "6151b1f0c3a1f2a1b2c3d4e5"));
+    }
+
+    @Test
+    void cursorSplitsOnTheLastSeparator() {
+        assertThat(decodeCursorOrThrow(encodeCursor("a|b", "id-1")))
+                .isEqualTo(new RequestCursor("a|b", "id-1"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "", "|id-1", "2021-09-27T10:00:00Z|", "no-separator"})
+    void invalidCursorsAreRejectedAsBadRequests(String raw) {
+        String cursor = raw.equals("not base64!") ? raw : encode(raw);
+
+        CommandException exception = catchThrowableOfType(() -> decodeCursorOrThrow(cursor), CommandException.class);
+
+        assertThat(exception).isNotNull();
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exception.getErrorCode()).isEqualTo(INVALID_CURSOR_ERROR);
+    }
+
+    @Test
+    void nextCursorPointsAtTheLastItemOnlyWhenThereIsANextSlice() {
+        CryptoRequest first = CryptoRequest.builder().id("id-2").createdOn("2021-09-27T10:05:00Z").build();
+        CryptoRequest last = CryptoRequest.builder().id("id-1").createdOn("2021-09-27T10:00:00Z").build();
+
+        CursorSlice<String> page = toCursorSlice(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), true), CryptoRequest::getId);
+        CursorSlice<String> end = toCursorSlice(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), false), CryptoRequest::getId);
+
+        assertThat(page.getContent()).containsExactly("id-2", "id-1");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(decodeCursorOrThrow(page.getNextCursor())).isEqualTo(new RequestCursor("2021-09-27T10:00:00Z", "id-1"));
+        assertThat(end.isHasNext()).isFalse();
+        assertThat(end.getNextCursor()).isNull();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package io.angularpay.crypto.helpers;
+
+import io.angularpay.crypto.configurations.AngularPayConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class NotificationFanOutTest {
+
+    private static final List<String> AUDIENCE = List.of("u1", "u2", "u3", "u4", "u5", "", "u1");
+
+    @Test
+    void deliversEveryRecipientOnceOnThePool() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Queue<String> delivered = new ConcurrentLinkedQueue<>();
+            fanOut(pool).fanOut(AUDIENCE, delivered::add);
+            assertThat(delivered).containsExactlyInAnyOrder("u1", "u2", "u3", "u4", "u5");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void deliversOnTheCallingThreadWhenThePoolDiscardsWorkers() {
+        Queue<String> delivered = new ConcurrentLinkedQueue<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> fanOut(runnable -> {
+        }).fanOut(AUDIENCE, delivered::add));
+        assertThat(delivered).containsExactly("u1", "u2", "u3", "u4", "u5");
+    }
+
+    @Test
+    void deliversOnTheCallingThreadWhenThePoolRejectsWorkers() {
+        Queue<String> delivered = new ConcurrentLinkedQueue<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> fanOut(runnable -> {
+            throw new RejectedExecutionException("saturated");
+        }).fanOut(AUDIENCE, delivered::add));
+        assertThat(delivered).containsExactly("u1", "u2", "u3", "u4", "u5");
+    }
+
+    @Test
+    void workersQueuedBehindOtherTasksAreSkippedOnceTheCallerFinished() {
+        List<Runnable> queued = new ArrayList<>();
+        Queue<String> delivered = new ConcurrentLinkedQueue<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> fanOut(queued::add).fanOut(AUDIENCE, delivered::add));
+
+        queued.forEach(Runnable::run);
+        assertThat(queued).hasSize(3);
+        assertThat(delivered).containsExactly("u1", "u2", "u3", "u4", "u5");
+    }
+
+    @Test
+    void aFailedDeliveryDoesNotStopTheOthers() {
+        Queue<String> delivered = new ConcurrentLinkedQueue<>();
+        fanOut(Runnable::run).fanOut(AUDIENCE, recipient -> {
+            if ("u2".equals(recipient)) throw new IllegalStateException("boom");
+            delivered.add(recipient);
+        });
+        assertThat(delivered).containsExactlyInAnyOrder("u1", "u3", "u4", "u5");
+    }
+
+    private static NotificationFanOut fanOut(Executor executor) {
+        AngularPayConfiguration.FanOut fanOut = new AngularPayConfiguration.FanOut();
+        fanOut.setPerRequestConcurrency(4);
+        AngularPayConfiguration configuration = new AngularPayConfiguration();
+        configuration.setFanOut(fanOut);
+        return new NotificationFanOut(executor, configuration);
+    }
+}
@@ -0,0 +1,87 @@
+package io.angularpay.crypto.helpers;
+
+import io.angularpay.crypto.domain.CryptoRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitOfWorkTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<CryptoRequest>> loader = reference -> {
+        loads.incrementAndGet();
+        return Optional.of(CryptoRequest.builder().reference(reference).version(loads.get()).build());
+    };
+
+    @AfterEach
+    void tearDown() {
+        UnitOfWork.end();
+    }
+
+    @Test
+    void requestsAreLoadedOncePerUnitOfWork() {
+        assertThat(UnitOfWork.begin()).isTrue();
+
+        CryptoRequest first = UnitOfWork.find("ref-1", loader).orElseThrow();
+        CryptoRequest second = UnitOfWork.find("ref-1", loader).orElseThrow();
+        UnitOfWork.find("ref-2", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void nestedBeginDoesNotOwnOrResetTheOuterUnitOfWork() {
+        assertThat(UnitOfWork.begin()).isTrue();
+        CryptoRequest loaded = UnitOfWork.find("ref-1", loader).orElseThrow();
+
+        assertThat(UnitOfWork.begin()).isFalse();
+
+        assertThat(UnitOfWork.find("ref-1", loader).orElseThrow()).isSameAs(loaded);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void everyLookupLoadsOutsideAUnitOfWorkAndAfterItEnds() {
+        UnitOfWork.find("ref-1", loader);
+        UnitOfWork.find("ref-1", loader);
+
+        UnitOfWork.begin();
+        UnitOfWork.find("ref-1", loader);
+        UnitOfWork.end();
+        UnitOfWork.find("ref-1", loader);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void registeredWritesReplaceTheLoadedRequestAndClearForcesAReload() {
+        UnitOfWork.begin();
+        UnitOfWork.find("ref-1", loader);
+        CryptoRequest saved = CryptoRequest.builder().reference("ref-1").version(9).build();
+
+        UnitOfWork.register(saved);
+        assertThat(UnitOfWork.find("ref-1", loader).orElseThrow()).isSameAs(saved);
+
+        UnitOfWork.clear();
+        assertThat(UnitOfWork.find("ref-1", loader).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void missingRequestsAreNotRemembered() {
+        UnitOfWork.begin();
+
+        assertThat(UnitOfWork.find("ref-1", reference -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        })).isEmpty();
+        UnitOfWork.find("ref-1", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
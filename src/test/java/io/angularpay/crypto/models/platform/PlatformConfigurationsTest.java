@@ -0,0 +1,81 @@
+package io.angularpay.crypto.models.platform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlatformConfigurationsTest {
+
+    @Test
+    void nullEntriesAreDroppedInsteadOfFailingTheUpdate() {
+        PlatformConfigurations configurations = new PlatformConfigurations();
+        PlatformBank bank = new PlatformBank();
+
+        configurations.setPlatformBanks(Arrays.asList(null, bank, null));
+
+        assertThat(configurations.getPlatformBanks()).containsExactly(bank);
+    }
+
+    @Test
+    void updatingOneListKeepsTheOthersAndCannotBeChangedFromOutside() {
+        PlatformConfigurations configurations = new PlatformConfigurations();
+        List<PlatformBank> banks = new ArrayList<>(List.of(new PlatformBank()));
+        configurations.setPlatformBanks(banks);
+        configurations.setPlatformServices(List.of(new PlatformService()));
+        banks.add(new PlatformBank());
+
+        assertThat(configurations.getPlatformBanks()).hasSize(1);
+        assertThat(configurations.getPlatformServices()).hasSize(1);
+        assertThat(configurations.getPlatformCountries()).isEmpty();
+        assertThatThrownBy(() -> configurations.getPlatformBanks().add(new PlatformBank()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void lookupsResolveByCodeIgnoringCaseAndSurroundingWhitespace() {
+        PlatformConfigurations configurations = new PlatformConfigurations();
+        configurations.setPlatformBanks(List.of(bank("FBN"), bank("GTB")));
+        PlatformCountry nigeria = new PlatformCountry();
+        nigeria.setCode("NG");
+        configurations.setPlatformCountries(List.of(nigeria));
+        PlatformCurrency naira = new PlatformCurrency();
+        naira.setCode("NGN");
+        configurations.setPlatformCurrencies(List.of(naira));
+        PlatformService crypto = new PlatformService();
+        crypto.setCode("CRYPTO");
+        configurations.setPlatformServices(List.of(crypto));
+
+        assertThat(configurations.findBank(" gtb ")).map(PlatformBank::getCode).contains("GTB");
+        assertThat(configurations.findCountry("ng")).contains(nigeria);
+        assertThat(configurations.findCurrency("NGN")).contains(naira);
+        assertThat(configurations.findService("crypto")).contains(crypto);
+        assertThat(configurations.findBank("UBA")).isEmpty();
+        assertThat(configurations.findBank(null)).isEmpty();
+        assertThat(configurations.findCurrency(" ")).isEmpty();
+    }
+
+    @Test
+    void indexesAreRebuiltWhenTheSnapshotIsSwapped() {
+        PlatformConfigurations configurations = new PlatformConfigurations();
+        configurations.setPlatformBanks(List.of(bank("FBN")));
+        PlatformConfigurationsSnapshot before = configurations.getSnapshot();
+
+        configurations.setPlatformBanks(List.of(bank("GTB")));
+
+        assertThat(configurations.findBank("FBN")).isEmpty();
+        assertThat(configurations.findBank("GTB")).isPresent();
+        assertThat(before.findBank("FBN")).isPresent();
+        assertThat(before.findBank("GTB")).isEmpty();
+    }
+
+    private static PlatformBank bank(String code) {
+        PlatformBank bank = new PlatformBank();
+        bank.setCode(code);
+        return bank;
+    }
+}